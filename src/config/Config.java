@@ -2,4 +2,24 @@ package config;
 
 public class Config {
     public static final boolean VERBOSE = false;
+
+    /**
+     * <code>true</code> pour résoudre les petits problèmes avec le simplexe Java plutôt que par lp_solve
+     * (voir model.SolveurSimplexe) : la bibliothèque native n'est alors chargée que pour les problèmes qui en ont
+     * besoin. <code>false</code> pour tout résoudre par lp_solve.
+     */
+    public static final boolean SIMPLEXE_JAVA = true;
+
+    /**
+     * Avec {@link #SIMPLEXE_JAVA}, les problèmes d'au plus autant de variables et de contraintes sont résolus en Java
+     * plutôt que par lp_solve (voir model.MLOProblem#solve()).
+     */
+    public static final int SIMPLEXE_MAX_VARIABLES = 20;
+    public static final int SIMPLEXE_MAX_CONTRAINTES = 100;
+
+    /**
+     * La proportion maximale de coefficients non nuls pour qu'un système lu depuis un problème soit stocké dans une
+     * matrice creuse (voir model.LCSystem.Storage#AUTO).
+     */
+    public static final double DENSITE_MAX_CREUSE = 0.1;
 }
@@ -0,0 +1,309 @@
+package model;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Une matrice dense à 2 dimensions dont les copies partagent leurs lignes.
+ *
+ * @implNote Chaque ligne est un tableau à part. {@link #clone()} ne copie que les références vers les lignes :
+ *           une ligne n'est réellement copiée que lorsqu'elle est modifiée pour la première fois par l'une des matrices
+ *           qui la partagent.
+ *           Une ligne ne peut être modifiée en place que par la matrice qui la possède (voir {@link #owner}).
+ *           Cloner une matrice lui fait perdre la possession de toutes ses lignes.
+ *
+ *           Attention, cette classe n'est pas prévue pour être utilisée depuis plusieurs threads à la fois.
+ */
+public class CopyOnWriteMatrix implements Matrix {
+    /**
+     * Les lignes de la matrice, potentiellement partagées avec d'autres matrices.
+     */
+    private double[][] rowData;
+    /**
+     * Pour chaque ligne, le jeton de la matrice qui a le droit de la modifier en place.
+     */
+    private Object[] rowOwners;
+    /**
+     * Le jeton de cette matrice, changé à chaque {@link #clone()}.
+     */
+    private Object owner = new Object();
+    /**
+     * Le nombre de lignes de la matrice.
+     */
+    private int rows;
+    /**
+     * Le nombre de colonnes de la matrice.
+     */
+    private int columns;
+    /**
+     * Les lignes marquées par {@link #markRemoved(int)}, en attente de {@link #compact()}.
+     *
+     * <code>null</code> si aucune ligne n'est marquée.
+     */
+    private boolean[] removed;
+
+    public CopyOnWriteMatrix(final int rowCount, final int columnCount) {
+        this.rowData = new double[rowCount][];
+        this.rowOwners = new Object[rowCount];
+        this.rows = rowCount;
+        this.columns = columnCount;
+
+        for (int i = 0; i < rowCount; ++i) {
+            this.rowData[i] = new double[columnCount];
+            this.rowOwners[i] = this.owner;
+        }
+    }
+
+    /**
+     * Crée une matrice contenant les mêmes valeurs que la matrice donnée.
+     *
+     * @param matrix la matrice à copier
+     */
+    public CopyOnWriteMatrix(final Matrix matrix) {
+        this(matrix.rowCount(), matrix.columnCount());
+
+        for (int i = 0; i < this.rows; ++i) {
+            matrix.rowView(i).get(this.rowData[i]);
+        }
+    }
+
+    /**
+     * Récupère la ligne <code>i</code> en s'assurant qu'elle peut être modifiée sans affecter les autres matrices.
+     *
+     * @param i le numéro de la ligne
+     * @return le tableau de la ligne, possédé par cette matrice
+     */
+    private double[] writableRow(final int i) {
+        if (this.rowOwners[i] != this.owner) {
+            this.rowData[i] = this.rowData[i].clone();
+            this.rowOwners[i] = this.owner;
+        }
+        return this.rowData[i];
+    }
+
+    @Override
+    public void setDouble(final int i, final int j, final double value) {
+        assert(i >= 0 && i < this.rowCount());
+        assert(j >= 0 && j < this.columnCount());
+
+        // inutile de copier une ligne partagée pour y écrire la même valeur
+        if (this.rowData[i][j] == value)
+            return;
+
+        this.writableRow(i)[j] = value;
+    }
+
+    @Override
+    public double getDouble(final int i, final int j) {
+        assert(i >= 0 && i < this.rowCount());
+        assert(j >= 0 && j < this.columnCount());
+
+        return this.rowData[i][j];
+    }
+
+    /**
+     * Récupère une vue en lecture seule sur la ligne <code>i</code> de la matrice, sans copie.
+     *
+     * @implNote La ligne pouvant être partagée, toute modification doit passer par {@link #setDouble(int, int, double)}
+     *           ou {@link #setRow(int, double[])}.
+     *
+     * @param i le numéro de la ligne
+     * @return une vue en lecture seule sur la ligne
+     */
+    @Override
+    public DoubleBuffer rowView(final int i) {
+        assert(i >= 0 && i < this.rowCount());
+
+        return DoubleBuffer.wrap(this.rowData[i]).asReadOnlyBuffer();
+    }
+
+    @Override
+    public void setRow(final int i, final double[] values) {
+        assert(i >= 0 && i < this.rowCount());
+
+        // pas besoin de copier l'ancienne ligne puisqu'elle est entièrement remplacée
+        if (this.rowOwners[i] != this.owner) {
+            this.rowData[i] = Arrays.copyOf(values, this.columns);
+            this.rowOwners[i] = this.owner;
+        } else {
+            System.arraycopy(values, 0, this.rowData[i], 0, this.columns);
+        }
+    }
+
+    @Override
+    public int rowNonZeros(final int i, final int[] columns, final double[] values) {
+        assert(i >= 0 && i < this.rowCount());
+
+        final double[] row = this.rowData[i];
+        int count = 0;
+        for (int j = 0; j < this.columns; ++j) {
+            if (row[j] != 0.) {
+                columns[count] = j;
+                values[count] = row[j];
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void addScaledRow(final int target, final int source, final double lambda) {
+        assert(source >= 0 && source < this.rowCount());
+
+        // la ligne source peut être partagée : elle n'est que lue
+        RowKernels.axpy(lambda, this.rowData[source], 0, this.writableRow(target), 0, this.columns);
+    }
+
+    @Override
+    public void scaleRow(final int i, final double lambda) {
+        assert(i >= 0 && i < this.rowCount());
+
+        if (lambda == 1.)
+            return;
+
+        RowKernels.scale(lambda, this.writableRow(i), 0, this.columns);
+    }
+
+    /**
+     * Échange les lignes <code>i</code> et <code>j</code>.
+     *
+     * @implNote Seules les références vers les lignes sont échangées : aucune ligne n'est copiée.
+     *
+     * @param i le numéro de la première ligne
+     * @param j le numéro de la seconde ligne
+     */
+    @Override
+    public void swapRows(final int i, final int j) {
+        assert(i >= 0 && i < this.rowCount());
+        assert(j >= 0 && j < this.rowCount());
+
+        final double[] row = this.rowData[i];
+        this.rowData[i] = this.rowData[j];
+        this.rowData[j] = row;
+
+        final Object rowOwner = this.rowOwners[i];
+        this.rowOwners[i] = this.rowOwners[j];
+        this.rowOwners[j] = rowOwner;
+    }
+
+    @Override
+    public boolean isRowNearZero(final int i, final int length, final double epsilon) {
+        assert(i >= 0 && i < this.rowCount());
+
+        return RowKernels.isNearZero(this.rowData[i], 0, length, epsilon);
+    }
+
+    @Override
+    public int rowCount() {
+        return this.rows;
+    }
+
+    @Override
+    public int columnCount() {
+        return this.rows == 0 ? 0 : this.columns;
+    }
+
+    @Override
+    public void appendRow(final double[] row) {
+        if (this.rows == 0)
+            this.columns = row.length;
+
+        if (this.rows == this.rowData.length) {
+            final int capacity = Math.max(2 * this.rows, 4);
+            this.rowData = Arrays.copyOf(this.rowData, capacity);
+            this.rowOwners = Arrays.copyOf(this.rowOwners, capacity);
+            if (this.removed != null)
+                this.removed = Arrays.copyOf(this.removed, capacity);
+        }
+
+        this.rowData[this.rows] = Arrays.copyOf(row, this.columns);
+        this.rowOwners[this.rows] = this.owner;
+        this.rows++;
+    }
+
+    @Override
+    public void removeRow(final int i) {
+        assert(i >= 0 && i < this.rowCount());
+
+        System.arraycopy(this.rowData, i + 1, this.rowData, i, this.rows - i - 1);
+        System.arraycopy(this.rowOwners, i + 1, this.rowOwners, i, this.rows - i - 1);
+        if (this.removed != null) {
+            System.arraycopy(this.removed, i + 1, this.removed, i, this.rows - i - 1);
+            this.removed[this.rows - 1] = false;
+        }
+        this.rows--;
+
+        this.rowData[this.rows] = null;
+        this.rowOwners[this.rows] = null;
+    }
+
+    @Override
+    public void markRemoved(final int i) {
+        assert(i >= 0 && i < this.rowCount());
+
+        if (this.removed == null)
+            this.removed = new boolean[this.rowData.length];
+        this.removed[i] = true;
+    }
+
+    @Override
+    public boolean isRemoved(final int i) {
+        return this.removed != null && this.removed[i];
+    }
+
+    @Override
+    public void compact() {
+        if (this.removed == null)
+            return;
+
+        int kept = 0;
+        for (int i = 0; i < this.rows; ++i) {
+            if (this.removed[i])
+                continue;
+
+            this.rowData[kept] = this.rowData[i];
+            this.rowOwners[kept] = this.rowOwners[i];
+            kept++;
+        }
+        Arrays.fill(this.rowData, kept, this.rows, null);
+        Arrays.fill(this.rowOwners, kept, this.rows, null);
+
+        this.rows = kept;
+        this.removed = null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[ ");
+
+        for (int i = 0; i < this.rowCount(); ++i) {
+            builder.append(Arrays.toString(this.rowData[i])).append("\n  ");
+        }
+
+        return builder.append(" ]").toString();
+    }
+
+    /**
+     * Copie la matrice en partageant toutes ses lignes avec la copie.
+     *
+     * @implNote Ne copie que les références vers les lignes, en <code>O(rowCount())</code>.
+     *           Attention, la matrice copiée est elle aussi modifiée (elle perd la possession de ses lignes) : cette
+     *           méthode n'est pas thread-safe, et deux copies simultanées d'une même matrice depuis plusieurs threads
+     *           doivent être synchronisées par l'appelant.
+     *
+     * @return une copie de la matrice
+     */
+    @SuppressWarnings("MethodDoesntCallSuperMethod")
+    @Override
+    public CopyOnWriteMatrix clone() {
+        // les lignes sont désormais partagées : aucune des deux matrices ne peut plus les modifier en place
+        this.owner = new Object();
+
+        final CopyOnWriteMatrix clone = new CopyOnWriteMatrix(0, this.columns);
+        clone.rowData = Arrays.copyOf(this.rowData, this.rows);
+        clone.rowOwners = new Object[this.rows];
+        clone.rows = this.rows;
+        clone.removed = this.removed == null ? null : Arrays.copyOf(this.removed, this.rows);
+        return clone;
+    }
+}
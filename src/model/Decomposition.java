@@ -0,0 +1,230 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Le découpage d'un système en sous-systèmes indépendants, qui n'ont aucune variable en commun.
+ *
+ * @implNote Deux variables sont dans le même bloc si elles apparaissent dans une même contrainte (de proche en proche) :
+ *           les blocs sont les composantes connexes du graphe d'incidence lignes/colonnes, trouvées par union-find en
+ *           un parcours des coefficients non nuls.
+ *           Chaque bloc ne contient que ses propres variables (plus la colonne <code>b</code>) : les problèmes
+ *           lp_solve construits à partir d'un bloc sont plus petits dans les deux dimensions.
+ *           Les contraintes sans variable sont mises dans le premier bloc.
+ *
+ *           Les blocs sont numérotés dans l'ordre de leur première contrainte : celui de la première contrainte
+ *           (l'objectif) est le bloc <code>0</code>.
+ */
+public final class Decomposition {
+    private final LCSystem system;
+    /**
+     * Les sous-systèmes, ou le système lui-même s'il n'y a qu'un seul bloc.
+     */
+    private final LCSystem[] blocs;
+    /**
+     * Les indices, dans le système, des variables de chaque bloc.
+     */
+    private final int[][] variables;
+
+    private Decomposition(final LCSystem system, final LCSystem[] blocs, final int[][] variables) {
+        this.system = system;
+        this.blocs = blocs;
+        this.variables = variables;
+    }
+
+    /**
+     * Découpe un système en blocs indépendants.
+     *
+     * @param system le système à découper, qui n'est pas modifié
+     * @return le découpage, avec au moins un bloc
+     */
+    static Decomposition of(final LCSystem system) {
+        final Matrix matrix = system.getMatrix();
+        final int N = matrix.rowCount();
+        final int n = matrix.columnCount();
+        final int nbVars = n - 1;
+
+        final int[] cols = new int[n];
+        final double[] values = new double[n];
+
+        // union-find sur les variables, avec compression de chemin par moitié
+        final int[] parents = new int[nbVars];
+        for (int j = 0; j < nbVars; ++j) {
+            parents[j] = j;
+        }
+
+        final int[] premieres = new int[N];
+        for (int i = 0; i < N; ++i) {
+            final int count = matrix.rowNonZeros(i, cols, values);
+            premieres[i] = count > 0 && cols[0] < nbVars ? cols[0] : -1;
+
+            for (int k = 1; k < count && cols[k] < nbVars; ++k) {
+                final int r1 = find(parents, cols[0]);
+                final int r2 = find(parents, cols[k]);
+                if (r1 != r2)
+                    parents[Math.max(r1, r2)] = Math.min(r1, r2);
+            }
+        }
+
+        // numérotation des blocs dans l'ordre de leur première contrainte
+        final int[] blocRacine = new int[nbVars];
+        Arrays.fill(blocRacine, -1);
+        final int[] blocLigne = new int[N];
+        int nbBlocs = 0;
+        for (int i = 0; i < N; ++i) {
+            if (premieres[i] == -1)
+                continue;
+
+            final int racine = find(parents, premieres[i]);
+            if (blocRacine[racine] == -1)
+                blocRacine[racine] = nbBlocs++;
+            blocLigne[i] = blocRacine[racine];
+        }
+
+        if (nbBlocs < 2) {
+            final int[] toutes = new int[nbVars];
+            Arrays.setAll(toutes, j -> j);
+            return new Decomposition(system, new LCSystem[]{system}, new int[][]{toutes});
+        }
+
+        // les contraintes sans variable vont dans le premier bloc
+        for (int i = 0; i < N; ++i) {
+            if (premieres[i] == -1)
+                blocLigne[i] = 0;
+        }
+
+        // variables de chaque bloc, et indice de chaque variable dans son bloc
+        final int[] nbVarsBloc = new int[nbBlocs];
+        final int[] locales = new int[nbVars];
+        final int[] blocVariable = new int[nbVars];
+        for (int j = 0; j < nbVars; ++j) {
+            final int bloc = blocRacine[find(parents, j)];
+            blocVariable[j] = bloc;
+            if (bloc != -1)
+                locales[j] = nbVarsBloc[bloc]++;
+        }
+
+        final int[][] variables = new int[nbBlocs][];
+        for (int k = 0; k < nbBlocs; ++k) {
+            variables[k] = new int[nbVarsBloc[k]];
+        }
+        for (int j = 0; j < nbVars; ++j) {
+            if (blocVariable[j] != -1)
+                variables[blocVariable[j]][locales[j]] = j;
+        }
+
+        // contraintes de chaque bloc
+        final int[] nbLignesBloc = new int[nbBlocs];
+        for (int i = 0; i < N; ++i) {
+            nbLignesBloc[blocLigne[i]]++;
+        }
+
+        final Matrix[] matrices = new Matrix[nbBlocs];
+        final int[][] ineqTypes = new int[nbBlocs][];
+        for (int k = 0; k < nbBlocs; ++k) {
+            matrices[k] = matrix instanceof SparseMatrix
+                    ? new SparseMatrix(nbLignesBloc[k], nbVarsBloc[k] + 1)
+                    : new Matrix2(nbLignesBloc[k], nbVarsBloc[k] + 1);
+            ineqTypes[k] = new int[nbLignesBloc[k]];
+        }
+
+        final int[] remplies = new int[nbBlocs];
+        for (int i = 0; i < N; ++i) {
+            final int k = blocLigne[i];
+            final int ligne = remplies[k]++;
+            final int b = nbVarsBloc[k];
+
+            final int count = matrix.rowNonZeros(i, cols, values);
+            for (int c = 0; c < count; ++c) {
+                matrices[k].setDouble(ligne, cols[c] < nbVars ? locales[cols[c]] : b, values[c]);
+            }
+            ineqTypes[k][ligne] = system.getIneqType(i);
+        }
+
+        final LCSystem[] blocs = new LCSystem[nbBlocs];
+        for (int k = 0; k < nbBlocs; ++k) {
+            final MLOProblem.VarType[] varTypes = new MLOProblem.VarType[nbVarsBloc[k]];
+            for (int v = 0; v < varTypes.length; ++v) {
+                varTypes[v] = system.getVarTypes()[variables[k][v]];
+            }
+            blocs[k] = new LCSystem(matrices[k], ineqTypes[k], varTypes);
+        }
+
+        return new Decomposition(system, blocs, variables);
+    }
+
+    private static int find(final int[] parents, int j) {
+        while (parents[j] != j) {
+            parents[j] = parents[parents[j]];
+            j = parents[j];
+        }
+        return j;
+    }
+
+    /**
+     * Retourne le nombre de blocs.
+     */
+    public int size() {
+        return this.blocs.length;
+    }
+
+    /**
+     * Retourne le sous-système d'un bloc, qui peut être simplifié indépendamment des autres.
+     *
+     * @implNote S'il n'y a qu'un seul bloc, c'est le système lui-même.
+     *
+     * @param k le numéro du bloc
+     */
+    public LCSystem getBloc(final int k) {
+        return this.blocs[k];
+    }
+
+    /**
+     * Retourne les indices, dans le système, des variables d'un bloc.
+     *
+     * @param k le numéro du bloc
+     */
+    public int[] getVariables(final int k) {
+        return this.variables[k].clone();
+    }
+
+    /**
+     * Remplace le contenu du système par celui de ses blocs, dans l'ordre des blocs.
+     *
+     * @implNote Sans effet s'il n'y a qu'un seul bloc. La nouvelle matrice a la même représentation que l'ancienne
+     *           (voir {@link Matrix#newMatrix(int, int)}).
+     */
+    public void recompose() {
+        if (this.blocs.length == 1)
+            return;
+
+        final Matrix ancienne = this.system.getMatrix();
+        final int n = ancienne.columnCount();
+
+        int N = 0;
+        for (final LCSystem bloc : this.blocs) {
+            N += bloc.getMatrix().rowCount();
+        }
+
+        final Matrix matrix = ancienne.newMatrix(N, n);
+        final int[] ineqTypes = new int[N];
+
+        final int[] cols = new int[n];
+        final double[] values = new double[n];
+        int ligne = 0;
+        for (int k = 0; k < this.blocs.length; ++k) {
+            final Matrix bloc = this.blocs[k].getMatrix();
+            final int b = bloc.columnCount() - 1;
+
+            for (int i = 0; i < bloc.rowCount(); ++i, ++ligne) {
+                final int count = bloc.rowNonZeros(i, cols, values);
+                for (int c = 0; c < count; ++c) {
+                    matrix.setDouble(ligne, cols[c] < b ? this.variables[k][cols[c]] : n - 1, values[c]);
+                }
+                ineqTypes[ligne] = this.blocs[k].getIneqType(i);
+            }
+        }
+
+        this.system.replace(matrix, ineqTypes);
+    }
+}
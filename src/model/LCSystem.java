@@ -1,24 +1,29 @@
 package model;
 
-import exceptions.problems.ColonneInvalideException;
-import exceptions.problems.LigneInvalideException;
+import config.Config;
 import lpsolve.LpSolve;
 import lpsolve.LpSolveException;
 
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.List;
+
 import static model.MLOProblem.GE;
 import static model.MLOProblem.LE;
 
-public class LCSystem implements Cloneable {
+public class LCSystem implements Cloneable, Closeable {
     /**
      * La matrice représentant le système sans les symboles d'inégalité.
      *
      * @implNote Les coefficients de <code>b</code> sont dans la dernière colonne de la matrice.
      */
-    private Matrix2 matrix;
+    private Matrix matrix;
     /**
      * Les symboles d'inégalité omis de la matrice.
      *
      * Soit {@link MLOProblem#GE}, {@link MLOProblem#EQ} ou {@link MLOProblem#LE}.
+     *
+     * @implNote Le tableau peut être plus grand que le nombre de lignes de la matrice (voir {@link #setLastIneqType(int)}).
      */
     private int[] ineqTypes;
     /**
@@ -31,39 +36,92 @@ public class LCSystem implements Cloneable {
      *
      * @param problem le problème résolu
      * @param sol la solution du problème
+     *
+     * @implNote La matrice est dense (voir {@link Storage#DENSE}) : {@link Storage#AUTO} doit être demandé
+     *           explicitement (voir {@link #LCSystem(MLOProblem, double, Storage)}).
      */
     public LCSystem(final MLOProblem problem, final double sol) throws LpSolveException {
-        this.matrix = new Matrix2(problem.getNbConstraints() + 1, problem.getNbVars() + 1);
-        this.ineqTypes = new int[problem.getNbConstraints() + 1];
-        this.varTypes = new MLOProblem.VarType[problem.getNbVars()];
-
-        for (int i = 0; i < problem.getNbConstraints() + 1; ++i) {
-            final double[] constraint = problem.getConstraint(i);
-            for (int j = 1; j < constraint.length; ++j) {
-                this.matrix.set(i, j - 1, constraint[j]);
-            }
-            this.matrix.set(i, problem.getNbVars(), problem.getConstraintRHS(i));
+        this(problem, sol, Storage.DENSE);
+    }
+
+    /**
+     * Initialise un nouveau système de contraintes à partir d'un problème d'optimisation linéaire déjà résolu.
+     *
+     * @param problem le problème résolu
+     * @param sol la solution du problème
+     * @param storage la représentation à utiliser pour la matrice du système
+     *
+     * @implNote La matrice est lue colonne par colonne, un seul appel à lp_solve par variable ne retournant que les
+     *           coefficients non nuls (voir {@link MLOProblem#getColumn(int, double[], int[])}), puis remplie
+     *           directement. Avec {@link Storage#AUTO}, la représentation est choisie une fois le nombre de
+     *           coefficients non nuls connu.
+     */
+    public LCSystem(final MLOProblem problem, final double sol, final Storage storage) throws LpSolveException {
+        final int nbVars = problem.getNbVars();
+        final int rowCount = problem.getNbConstraints() + 1;
+        final int columnCount = nbVars + 1;
+
+        // les coefficients non nuls de chaque colonne, avec la ligne 0 pour l'objectif
+        final int[][] rows = new int[nbVars][];
+        final double[][] values = new double[nbVars][];
+        final int[] rowBuffer = new int[rowCount];
+        final double[] valueBuffer = new double[rowCount];
+        long nonZeros = 0;
+        for (int j = 0; j < nbVars; ++j) {
+            final int count = problem.getColumn(j, valueBuffer, rowBuffer);
+            rows[j] = Arrays.copyOf(rowBuffer, count);
+            values[j] = Arrays.copyOf(valueBuffer, count);
+            nonZeros += count;
         }
-        this.matrix.set(0, problem.getNbVars(), sol);
 
-        this.ineqTypes[0] = LpSolve.EQ; // la première équation est l'objectif
-        for (int i = 0; i < problem.getNbConstraints(); ++i) {
-            try {
-                this.ineqTypes[i + 1] = problem.getConstraintType(i);
-            } catch (LigneInvalideException e) {
-                System.err.println("Ligne inconnue: type d'inégalité par défaut à LE");
-                this.ineqTypes[i + 1] = MLOProblem.LE;
-            }
+        final double[] rhs = new double[rowCount];
+        rhs[0] = sol;
+        for (int i = 1; i < rowCount; ++i) {
+            rhs[i] = problem.getConstraintRHS(i);
+            if (rhs[i] != 0.)
+                nonZeros++;
+        }
+
+        switch (storage == Storage.AUTO ? Storage.of(rowCount, columnCount, nonZeros) : storage) {
+            case SPARSE:
+                this.matrix = new SparseMatrix(rowCount, columnCount);
+                break;
+            case OFF_HEAP:
+                this.matrix = new OffHeapMatrix(rowCount, columnCount);
+                break;
+            default:
+                this.matrix = new Matrix2(rowCount, columnCount);
         }
 
-        for (int i = 0; i < problem.getNbVars(); ++i) {
-            try {
-                this.varTypes[i] = problem.getVarType(i);
-            } catch (ColonneInvalideException e) {
-                System.err.println("Colonne inconnue: type de variable par défaut à REAL");
-                this.varTypes[i] = MLOProblem.VarType.REAL;
+        // colonne par colonne : chaque ligne d'une matrice creuse est remplie dans l'ordre de ses colonnes
+        for (int j = 0; j < nbVars; ++j) {
+            for (int k = 0; k < rows[j].length; ++k) {
+                this.matrix.setDouble(rows[j][k], j, values[j][k]);
             }
         }
+        for (int i = 0; i < rowCount; ++i) {
+            if (rhs[i] != 0.)
+                this.matrix.setDouble(i, nbVars, rhs[i]);
+        }
+
+        this.ineqTypes = new int[rowCount];
+        this.ineqTypes[0] = LpSolve.EQ; // la première équation est l'objectif
+        System.arraycopy(problem.getConstraintTypes(), 0, this.ineqTypes, 1, rowCount - 1);
+
+        this.varTypes = problem.getVarTypes();
+    }
+
+    /**
+     * Initialise un nouveau système de contraintes à partir de ses composantes.
+     *
+     * @param matrix la matrice du système, dont la dernière colonne contient les coefficients <code>b</code>
+     * @param ineqTypes les symboles d'inégalité de chaque ligne de la matrice
+     * @param varTypes les types de chaque variable
+     */
+    public LCSystem(final Matrix matrix, final int[] ineqTypes, final MLOProblem.VarType[] varTypes) {
+        this.matrix = matrix;
+        this.ineqTypes = ineqTypes;
+        this.varTypes = varTypes;
     }
 
     /**
@@ -71,24 +129,125 @@ public class LCSystem implements Cloneable {
      *
      * @return la matrice ainsi que les coefficients <code>b</code>
      */
-    public Matrix2 getMatrix() {
+    public Matrix getMatrix() {
         return matrix;
     }
 
-    public void setMatrixRow(double[] values, int i, boolean signe) {
-        for (int j = 0; j < this.matrix.columnCount(); ++j) {
-            this.matrix.set(i, j, values[j]);
+    /**
+     * Fait partager les lignes de la matrice entre ce système et ses copies.
+     *
+     * @implNote Après cet appel, {@link #clone()} ne copie plus les coefficients de la matrice mais seulement des
+     *           références vers les lignes : une ligne n'est copiée que lorsqu'elle est modifiée
+     *           (voir {@link CopyOnWriteMatrix}).
+     *           Seule une {@link Matrix2} est convertie : une matrice creuse ou hors tas serait sinon entièrement
+     *           recopiée de façon dense dans le tas.
+     *
+     * @return <code>true</code> si la matrice a été convertie (voir {@link #disableCopyOnWrite()})
+     */
+    public boolean enableCopyOnWrite() {
+        if (!(this.matrix instanceof Matrix2))
+            return false;
+
+        this.matrix = new CopyOnWriteMatrix(this.matrix);
+        return true;
+    }
+
+    /**
+     * Remet la matrice dans une {@link Matrix2}, après {@link #enableCopyOnWrite()}.
+     *
+     * @implNote Les copies du système gardent leurs lignes : elles ne partagent plus rien avec ce système.
+     *           Sans effet si la matrice n'est pas en copie sur écriture.
+     */
+    public void disableCopyOnWrite() {
+        if (!(this.matrix instanceof CopyOnWriteMatrix))
+            return;
+
+        final int rowCount = this.matrix.rowCount();
+        final int columnCount = this.matrix.columnCount();
+        final Matrix2 dense = new Matrix2(rowCount, columnCount);
+        final int[] cols = new int[columnCount];
+        final double[] values = new double[columnCount];
+        for (int i = 0; i < rowCount; ++i) {
+            final int count = this.matrix.rowNonZeros(i, cols, values);
+            for (int k = 0; k < count; ++k) {
+                dense.setDouble(i, cols[k], values[k]);
+            }
         }
 
+        this.matrix = dense;
+    }
+
+    public void setMatrixRow(double[] values, int i, boolean signe) {
+        this.matrix.setRow(i, values);
+
         //vérifie si changement de signe ou non
-        if(signe) {
-            if(ineqTypes[i] == GE)
-                this.ineqTypes[i] = LE;
-            else if(ineqTypes[i] == LE)
-                this.ineqTypes[i] = GE;
+        if(signe)
+            this.flipIneqType(i);
+    }
+
+    /**
+     * Inverse le sens de l'inégalité de la contrainte <code>i</code> (une égalité reste une égalité).
+     *
+     * @param i le numéro de la contrainte
+     */
+    private void flipIneqType(final int i) {
+        if(ineqTypes[i] == GE)
+            this.ineqTypes[i] = LE;
+        else if(ineqTypes[i] == LE)
+            this.ineqTypes[i] = GE;
+    }
+
+    /**
+     * Ajoute à la contrainte <code>target</code> la contrainte <code>source</code> multipliée par <code>lambda</code>,
+     * directement dans la matrice.
+     *
+     * @implNote N'alloue rien pour une matrice dense. Le type d'inégalité de <code>target</code> n'est pas modifié.
+     *
+     * @param target la contrainte modifiée
+     * @param source la contrainte ajoutée
+     * @param lambda le coefficient multiplicateur
+     */
+    public void addScaledRow(final int target, final int source, final double lambda) {
+        if (Double.isFinite(lambda)) {
+            this.matrix.addScaledRow(target, source, lambda);
+            return;
+        }
+
+        // 0 × ∞ n'est pas nul : toutes les colonnes sont concernées
+        for (int j = 0; j < this.matrix.columnCount(); ++j) {
+            this.matrix.setDouble(target, j, this.matrix.getDouble(target, j) + lambda * this.matrix.getDouble(source, j));
         }
     }
 
+    /**
+     * Multiplie la contrainte <code>i</code> par <code>lambda</code>, directement dans la matrice.
+     *
+     * @implNote Le sens de l'inégalité est inversé si <code>lambda</code> est négatif.
+     *
+     * @param i le numéro de la contrainte
+     * @param lambda le coefficient multiplicateur
+     */
+    public void scaleRow(final int i, final double lambda) {
+        this.matrix.scaleRow(i, lambda);
+
+        if (lambda < 0)
+            this.flipIneqType(i);
+    }
+
+    /**
+     * Échange les contraintes <code>i</code> et <code>j</code>, ainsi que leurs types d'inégalité.
+     *
+     * @param i le numéro de la première contrainte
+     * @param j le numéro de la seconde contrainte
+     */
+    public void swapRows(final int i, final int j) {
+        this.matrix.swapRows(i, j);
+
+        final int ineqType = this.ineqTypes[i];
+        this.ineqTypes[i] = this.ineqTypes[j];
+        this.ineqTypes[j] = ineqType;
+    }
+
     public void setIneqTypes(int i, int value) {
         this.ineqTypes[i] = value;
     }
@@ -96,10 +255,22 @@ public class LCSystem implements Cloneable {
     /**
      * Les symboles d'inégalité omis de la matrice.
      *
+     * @implNote Retourne une copie, d'autant de cases que la matrice a de lignes : le système n'est pas modifié.
+     *
      * @return soit {@link MLOProblem#GE}, {@link MLOProblem#EQ} ou {@link MLOProblem#LE}.
      */
     public int[] getIneqTypes() {
-        return this.ineqTypes;
+        return Arrays.copyOf(this.ineqTypes, this.matrix.rowCount());
+    }
+
+    /**
+     * Le symbole d'inégalité de la contrainte <code>i</code>.
+     *
+     * @param i le numéro de la contrainte
+     * @return soit {@link MLOProblem#GE}, {@link MLOProblem#EQ} ou {@link MLOProblem#LE}.
+     */
+    public int getIneqType(final int i) {
+        return this.ineqTypes[i];
     }
 
     /**
@@ -112,17 +283,73 @@ public class LCSystem implements Cloneable {
     }
 
     /**
-     * Ajoute un type d'inégalité à la fin de la matrice.
+     * Fixe le type d'inégalité de la dernière ligne de la matrice.
+     *
+     * @implNote À appeler après avoir ajouté la ligne correspondante dans la matrice
+     *           (voir {@link Matrix#appendRow(double[])}) : le type est écrit à l'indice de cette ligne.
+     *           La capacité du tableau double quand il est plein.
      *
      * @param eq le type d'égalité, soit {@link MLOProblem#GE}, {@link MLOProblem#LE} ou {@link MLOProblem#EQ}
      */
-    public void appendIneqType(int eq) {
-        final int[] newIneqtypes = new int[this.ineqTypes.length + 1];
+    public void setLastIneqType(int eq) {
+        final int i = this.matrix.rowCount() - 1;
 
-        System.arraycopy(this.ineqTypes, 0, newIneqtypes, 0, this.ineqTypes.length);
-        newIneqtypes[this.ineqTypes.length] = eq;
+        if (i >= this.ineqTypes.length)
+            this.ineqTypes = Arrays.copyOf(this.ineqTypes, Math.max(2 * this.ineqTypes.length, i + 1));
+
+        this.ineqTypes[i] = eq;
+    }
 
-        this.ineqTypes = newIneqtypes;
+    /**
+     * Découpe le système en sous-systèmes indépendants, qui n'ont aucune variable en commun
+     * (voir {@link Decomposition}).
+     *
+     * @implNote Ce système n'est pas modifié : les blocs simplifiés y sont remis par {@link Decomposition#recompose()}.
+     *
+     * @return le découpage, avec au moins un bloc
+     */
+    public Decomposition decompose() {
+        return Decomposition.of(this);
+    }
+
+    /**
+     * Remplace toutes les contraintes du système par celles données, sans changer ses variables.
+     *
+     * @implNote La nouvelle matrice a la même représentation que l'ancienne (voir {@link Matrix#newMatrix(int, int)}).
+     *
+     * @param rows les nouvelles lignes, partie droite comprise, chacune d'une case de plus que le nombre de variables
+     * @param ineqTypes les symboles d'inégalité de chaque nouvelle ligne
+     */
+    public void replaceConstraints(final List<double[]> rows, final int[] ineqTypes) {
+        assert(rows.size() == ineqTypes.length);
+
+        final int n = this.varTypes.length + 1;
+        final Matrix matrix = this.matrix.newMatrix(rows.size(), n);
+        for (int i = 0; i < rows.size(); ++i) {
+            final double[] row = rows.get(i);
+            assert(row.length == n);
+
+            for (int j = 0; j < n; ++j) {
+                if (row[j] != 0.)
+                    matrix.setDouble(i, j, row[j]);
+            }
+        }
+
+        this.replace(matrix, ineqTypes.clone());
+    }
+
+    /**
+     * Remplace toutes les contraintes du système, sans changer ses variables.
+     *
+     * @param matrix la nouvelle matrice, avec le même nombre de colonnes
+     * @param ineqTypes les symboles d'inégalité de chaque ligne de la nouvelle matrice
+     */
+    void replace(final Matrix matrix, final int[] ineqTypes) {
+        assert(matrix.columnCount() == this.matrix.columnCount());
+
+        this.close();
+        this.matrix = matrix;
+        this.ineqTypes = ineqTypes;
     }
 
     /**
@@ -131,15 +358,45 @@ public class LCSystem implements Cloneable {
      * @param i le numéro de la contrainte
      */
     public void removeConstraint(final int i) {
-        final Matrix2 matrix = this.matrix;
-        matrix.removeRow(i);
+        final int rowCount = this.matrix.rowCount();
+        this.matrix.removeRow(i);
 
-        final int[] proxyIneqTypes = new int[this.ineqTypes.length - 1];
+        System.arraycopy(this.ineqTypes, i + 1, this.ineqTypes, i, rowCount - i - 1);
+    }
 
-        System.arraycopy(this.ineqTypes, 0, proxyIneqTypes, 0, i);
-        System.arraycopy(this.ineqTypes, i + 1, proxyIneqTypes, i, this.ineqTypes.length - i - 1);
+    /**
+     * Marque une contrainte comme retirée, sans décaler les indices des autres contraintes.
+     *
+     * @implNote La contrainte n'est réellement retirée qu'au prochain appel à {@link #compact()}.
+     *
+     * @param i le numéro de la contrainte
+     */
+    public void markConstraintRemoved(final int i) {
+        this.matrix.markRemoved(i);
+    }
 
-        this.ineqTypes = proxyIneqTypes;
+    /**
+     * Retire en une seule passe toutes les contraintes marquées par {@link #markConstraintRemoved(int)}.
+     */
+    public void compact() {
+        int kept = 0;
+        for (int i = 0; i < this.matrix.rowCount(); ++i) {
+            if (!this.matrix.isRemoved(i))
+                this.ineqTypes[kept++] = this.ineqTypes[i];
+        }
+
+        this.matrix.compact();
+    }
+
+    /**
+     * Libère la mémoire hors tas de la matrice, si elle en utilise (voir {@link OffHeapMatrix}).
+     *
+     * @implNote Sans effet pour les autres représentations.
+     */
+    @Override
+    public void close() {
+        if (this.matrix instanceof OffHeapMatrix)
+            ((OffHeapMatrix) this.matrix).close();
     }
 
     @Override
@@ -162,13 +419,13 @@ public class LCSystem implements Cloneable {
             }
 
             for (int j = 0; j < columnCount - 1; ++j) {
-                builder.append(String.format("% 15.7f ", this.matrix.get(i, j)));
+                builder.append(String.format("% 15.7f ", this.matrix.getDouble(i, j)));
             }
 
             final int ineqType = this.ineqTypes[i];
             builder
                     .append(ineqType == LE ? "⩽ " : ineqType == GE ? "⩾ " : "= ")
-                    .append(String.format("% 15.7f", this.matrix.get(i, columnCount - 1)))
+                    .append(String.format("% 15.7f", this.matrix.getDouble(i, columnCount - 1)))
                     .append("\n");
         }
 
@@ -180,11 +437,42 @@ public class LCSystem implements Cloneable {
         try {
             LCSystem clone = (LCSystem) super.clone();
             clone.matrix = this.matrix.clone();
-            clone.ineqTypes = this.ineqTypes.clone();
+            clone.ineqTypes = Arrays.copyOf(this.ineqTypes, this.matrix.rowCount());
             clone.varTypes = this.varTypes.clone();
             return clone;
         } catch (CloneNotSupportedException e) {
             throw new AssertionError();
         }
     }
+
+    /**
+     * Les différentes représentations possibles pour la matrice d'un système.
+     */
+    public enum Storage {
+        /**
+         * Une matrice dense dans le tas (voir {@link Matrix2}).
+         */
+        DENSE,
+        /**
+         * Une matrice creuse, pour les systèmes avec peu de coefficients non nuls (voir {@link SparseMatrix}).
+         */
+        SPARSE,
+        /**
+         * Une matrice dense hors du tas, pour les très gros systèmes (voir {@link OffHeapMatrix}).
+         */
+        OFF_HEAP,
+        /**
+         * {@link #SPARSE} si au plus {@link Config#DENSITE_MAX_CREUSE} des coefficients sont non nuls, {@link #DENSE}
+         * sinon.
+         */
+        AUTO;
+
+        /**
+         * Choisit la représentation d'une matrice d'après son nombre de coefficients non nuls (voir {@link #AUTO}).
+         */
+        static Storage of(final int rowCount, final int columnCount, final long nonZeros) {
+            final double cells = (double) rowCount * columnCount;
+            return cells > 0 && nonZeros <= Config.DENSITE_MAX_CREUSE * cells ? SPARSE : DENSE;
+        }
+    }
 }
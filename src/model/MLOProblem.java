@@ -6,21 +6,44 @@ import lpsolve.LpSolve;
 import lpsolve.LpSolveException;
 
 import java.io.Closeable;
+import java.nio.DoubleBuffer;
 
 /**
  * @author Émeline BONTE, Ghilain BERGERON, Khaled SADEGH
  * @version 1.2
  */
 public final class MLOProblem implements Closeable {
-    private final LpSolve solver;
+    /**
+     * Le solveur utilisé : {@link SolveurSimplexe} pour les petits problèmes si {@link Config#SIMPLEXE_JAVA},
+     * lp_solve sinon (voir {@link #solve()}).
+     */
+    private Solveur solver;
+
+    /**
+     * Tableau réutilisé pour transmettre les lignes à lp_solve (voir {@link #withConstraint(DoubleBuffer, int)}).
+     */
+    private double[] rowBuffer;
 
     private int solveStatus = -1;
     private boolean solved = false;
+    /**
+     * La base de départ de la prochaine résolution (voir {@link #withBasis(int[])}), ou <code>null</code>.
+     */
+    private int[] startBasis = null;
+    /**
+     * Les options de présolve des prochaines résolutions (voir {@link #withPresolve(int)}).
+     */
+    private int presolve = LpSolve.PRESOLVE_NONE;
 
     public static final int EQ = LpSolve.EQ;
     public static final int LE = LpSolve.LE;
     public static final int GE = LpSolve.GE;
 
+    /**
+     * Le délai maximal par défaut de chaque résolution, en secondes.
+     */
+    public static final long TIMEOUT = 15;
+
     /**
      * Crée un nouveau problème d'optimisation linéaire en nombres mixtes avec le nombre de variables donné.
      *
@@ -31,14 +54,7 @@ public final class MLOProblem implements Closeable {
         if (nbVars < 0)
             throw new ProblemeSansVariablesException();
 
-        this.solver = LpSolve.makeLp(0, nbVars);
-        this.solver.setVerbose(0);
-        this.solver.setMinim();
-        this.solver.setTimeout(15);
-
-        for (int i = 0; i < nbVars; ++i) {
-            this.solver.setBounds(i + 1, -this.solver.getInfinite(), this.solver.getInfinite());
-        }
+        this.solver = Config.SIMPLEXE_JAVA && nbVars <= Config.SIMPLEXE_MAX_VARIABLES ? new SolveurSimplexe(nbVars) : new SolveurLpSolve(nbVars);
     }
 
     /**
@@ -57,7 +73,7 @@ public final class MLOProblem implements Closeable {
         if (ineqType != LE && ineqType != GE && ineqType != EQ)
             throw new TypeInegaliteInvalideException(ineqType);
 
-        this.solver.strAddConstraint(row, ineqType, Double.parseDouble(b));
+        this.solver.ajouterLigne(this.parse(row), ineqType, Double.parseDouble(b));
         return this;
     }
 
@@ -75,13 +91,96 @@ public final class MLOProblem implements Closeable {
     public MLOProblem withConstraint(final double[] row, final int ineqType, final double b) throws LpSolveException, TypeInegaliteInvalideException, TailleLigneInvalideException {
         if (ineqType != LE && ineqType != GE && ineqType != EQ)
             throw new TypeInegaliteInvalideException(ineqType);
-        if (row.length != this.solver.getNcolumns() + 1)
-            throw new TailleLigneInvalideException(row.length, this.solver.getNcolumns() + 1);
+        if (row.length != this.solver.getNbColonnes() + 1)
+            throw new TailleLigneInvalideException(row.length, this.solver.getNbColonnes() + 1);
+
+        this.solver.ajouterLigne(row, ineqType, b);
+        return this;
+    }
+
+    /**
+     * Ajoute une contrainte au problème d'optimisation linéaire en nombres mixtes, à partir d'une ligne d'un
+     * {@link LCSystem}.
+     *
+     * @implNote La ligne est lue directement depuis la vue donnée (par exemple {@link Matrix#rowView(int)}), sans passer
+     *           par un tableau intermédiaire alloué pour l'occasion : lp_solve ayant besoin d'un tableau Java, un tableau
+     *           interne au problème est réutilisé pour toutes les contraintes ajoutées.
+     *
+     * @param row      les coefficients des variables suivis de la valeur à droite de l'équation, sous la forme
+     *                 <code>c_1 c_2 ... c_n b</code>
+     * @param ineqType le type d'égalité de l'équation, entre {@link #GE}, {@link #LE} et {@link #EQ}.
+     * @return la nouvelle instance du problème
+     * @throws LpSolveException
+     */
+    public MLOProblem withConstraint(final DoubleBuffer row, final int ineqType) throws LpSolveException, TypeInegaliteInvalideException, TailleLigneInvalideException {
+        if (ineqType != LE && ineqType != GE && ineqType != EQ)
+            throw new TypeInegaliteInvalideException(ineqType);
+
+        final int nbVars = this.solver.getNbColonnes();
+        if (row.remaining() != nbVars + 1)
+            throw new TailleLigneInvalideException(row.remaining(), nbVars + 1);
+
+        if (this.rowBuffer == null || this.rowBuffer.length != nbVars + 1)
+            this.rowBuffer = new double[nbVars + 1];
+
+        // lp_solve ignore la case 0 : les coefficients sont décalés d'un cran
+        final int start = row.position();
+        row.get(this.rowBuffer, 1, nbVars);
+        final double b = row.get();
+        row.position(start);
 
-        this.solver.addConstraint(row, ineqType, b);
+        this.solver.ajouterLigne(this.rowBuffer, ineqType, b);
         return this;
     }
 
+    /**
+     * Ajoute toutes les contraintes d'un système au problème, ainsi que les types de ses variables.
+     *
+     * @implNote Seuls les coefficients non nuls de chaque ligne sont transmis à lp_solve (voir
+     *           {@link Matrix#rowNonZeros(int, int[], double[])}), sans passer par une ligne complète. Si le problème
+     *           n'a encore aucune contrainte, elles sont ajoutées en mode ajout de lignes : lp_solve ne réorganise
+     *           le problème qu'une fois, après la dernière, au lieu de le faire après chacune.
+     *
+     * @param system le système, qui doit avoir autant de variables que le problème
+     * @return la nouvelle instance du problème
+     * @throws LpSolveException
+     */
+    public MLOProblem withSystem(final LCSystem system) throws LpSolveException, TypeInegaliteInvalideException, TailleLigneInvalideException {
+        final Matrix matrix = system.getMatrix();
+        final int n = matrix.columnCount();
+        if (n != this.solver.getNbColonnes() + 1)
+            throw new TailleLigneInvalideException(n, this.solver.getNbColonnes() + 1);
+
+        for (int i = 0; i < matrix.rowCount(); ++i) {
+            final int ineqType = system.getIneqType(i);
+            if (ineqType != LE && ineqType != GE && ineqType != EQ)
+                throw new TypeInegaliteInvalideException(ineqType);
+        }
+
+        final int[] cols = new int[n];
+        final double[] values = new double[n];
+
+        final boolean modeAjout = this.solver.getNbLignes() == 0 && this.solver.setModeAjout(true);
+        try {
+            for (int i = 0; i < matrix.rowCount(); ++i) {
+                final int count = matrix.lhsNonZeros(i, cols, values);
+                final double b = matrix.rhs(i);
+
+                // lp_solve numérote les variables à partir de 1
+                for (int k = 0; k < count; ++k) {
+                    cols[k]++;
+                }
+
+                this.solver.ajouterLigneCreuse(count, values, cols, system.getIneqType(i), b);
+            }
+        } finally {
+            if (modeAjout)
+                this.solver.setModeAjout(false);
+        }
+
+        return this.withVarTypes(system.getVarTypes());
+    }
+
     /**
      * Ajoute la ligne correspondant au calcul de la fonction objectif.
      *
@@ -93,10 +192,28 @@ public final class MLOProblem implements Closeable {
      * @throws LpSolveException
      */
     public MLOProblem withObjective(final String row) throws LpSolveException {
-        this.solver.strSetObjFn(row);
+        this.solver.setObjectif(this.parse(row));
         return this;
     }
 
+    /**
+     * Lit une ligne sous la forme <code>c_1 c_2 ... c_n</code>, comme lp_solve : les coefficients absents sont nuls.
+     *
+     * @return les coefficients, à partir de la case <code>1</code>
+     */
+    private double[] parse(final String row) throws LpSolveException {
+        final String trimmed = row.trim();
+        final String[] coeffs = trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+        if (coeffs.length > this.solver.getNbColonnes())
+            throw new LpSolveException("Trop de coefficients : " + coeffs.length + " pour " + this.solver.getNbColonnes() + " variables");
+
+        final double[] parsed = new double[this.solver.getNbColonnes() + 1];
+        for (int j = 0; j < coeffs.length; ++j) {
+            parsed[j + 1] = Double.parseDouble(coeffs[j]);
+        }
+        return parsed;
+    }
+
     /**
      * Ajoute la ligne correspondant au calcul de la fonction objectif.
      *
@@ -108,10 +225,10 @@ public final class MLOProblem implements Closeable {
      * @throws LpSolveException
      */
     public MLOProblem withObjective(final double[] row) throws LpSolveException, TailleLigneInvalideException {
-        if (row.length != this.solver.getNcolumns() + 1)
-            throw new TailleLigneInvalideException(row.length, this.solver.getNcolumns() + 1);
+        if (row.length != this.solver.getNbColonnes() + 1)
+            throw new TailleLigneInvalideException(row.length, this.solver.getNbColonnes() + 1);
 
-        this.solver.setObjFn(row);
+        this.solver.setObjectif(row);
         return this;
     }
 
@@ -126,16 +243,16 @@ public final class MLOProblem implements Closeable {
      * @implNote si cette fonction n'est pas appelée, toutes les variables sont supposées réelles.
      */
     public MLOProblem withVarTypes(final VarType... types) throws LpSolveException, TailleLigneInvalideException {
-        if (types.length != this.solver.getNcolumns())
-            throw new TailleLigneInvalideException(types.length, this.solver.getNcolumns());
+        if (types.length != this.solver.getNbColonnes())
+            throw new TailleLigneInvalideException(types.length, this.solver.getNbColonnes());
 
         for (int i = 0; i < types.length; ++i) {
             switch (types[i]) {
                 case INT:
-                    this.solver.setInt(i+1, true);
+                    this.solver.setEntiere(i+1, true);
                     break;
                 case BINARY:
-                    this.solver.setBinary(i+1, true);
+                    this.solver.setBinaire(i+1, true);
                     break;
                 default:
                     // rien faire pour des variables entières
@@ -147,11 +264,35 @@ public final class MLOProblem implements Closeable {
     /**
      * Résout le problème d'optimisation linéaire en nombres mixtes.
      *
-     * @return la solution obtenue par lp_solve
+     * @implNote Avec {@link Config#SIMPLEXE_JAVA}, les problèmes d'au plus {@link Config#SIMPLEXE_MAX_VARIABLES}
+     *           variables sont créés avec {@link SolveurSimplexe}, sans charger lp_solve. Ils sont transmis à lp_solve au moment de la résolution
+     *           s'ils ont plus de {@link Config#SIMPLEXE_MAX_CONTRAINTES} contraintes, des variables entières ou du
+     *           présolve (voir {@link #withPresolve(int)}), et le restent ensuite.
+     *
+     * @return la solution obtenue par le solveur
      * @throws LpSolveException
      */
     public double solve() throws LpSolveException {
-        this.solveStatus = this.solver.solve();
+        if (this.solver instanceof SolveurSimplexe
+                && (this.solver.getNbLignes() > Config.SIMPLEXE_MAX_CONTRAINTES || !((SolveurSimplexe) this.solver).isContinu()
+                    || this.presolve != LpSolve.PRESOLVE_NONE))
+            this.passerALpSolve();
+
+        this.solver.setPresolve(this.presolve);
+
+        if (this.startBasis != null) {
+            // une base qui ne correspond plus au problème (contraintes ajoutées ou retirées depuis) est ignorée
+            if (this.startBasis.length == 1 + this.solver.getNbLignes() + this.solver.getNbColonnes()) {
+                try {
+                    this.solver.setBase(this.startBasis);
+                } catch (LpSolveException e) {
+                    if (Config.VERBOSE) System.err.println("Base de départ refusée par lp_solve");
+                }
+            }
+            this.startBasis = null;
+        }
+
+        this.solveStatus = this.solver.resoudre();
         this.solved = true;
 
         if (this.solveStatus == LpSolve.SUBOPTIMAL)
@@ -159,12 +300,171 @@ public final class MLOProblem implements Closeable {
         if (this.solveStatus == LpSolve.TIMEOUT)
             System.err.println("lp_solve was unable to find a real solution before the timeout");
 
-        return this.solver.getObjective();
+        return this.solver.getValeurObjectif();
+    }
+
+    /**
+     * Remplace le solveur Java par lp_solve, en lui transmettant tout le problème.
+     */
+    private void passerALpSolve() throws LpSolveException {
+        if (Config.VERBOSE) System.err.println("Problème transmis à lp_solve");
+
+        final int nbVars = this.solver.getNbColonnes();
+        final Solveur lpSolve = new SolveurLpSolve(nbVars);
+        try {
+            for (int i = 1; i <= this.solver.getNbLignes(); ++i) {
+                lpSolve.ajouterLigne(this.solver.getLigne(i), this.solver.getType(i), this.solver.getPartieDroite(i));
+            }
+            lpSolve.setObjectif(this.solver.getLigne(0));
+            lpSolve.setMax(this.solver.isMax());
+            lpSolve.setTimeout(this.solver.getTimeout());
+
+            for (int j = 1; j <= nbVars; ++j) {
+                if (this.solver.isEntiere(j))
+                    lpSolve.setEntiere(j, true);
+                if (this.solver.isBinaire(j))
+                    lpSolve.setBinaire(j, true);
+            }
+        } catch (LpSolveException e) {
+            lpSolve.close();
+            throw e;
+        }
+
+        this.solver.close();
+        this.solver = lpSolve;
+    }
+
+    /**
+     * Retourne la base de la dernière résolution, pour repartir de celle-ci dans un problème proche.
+     *
+     * @implNote Au format de lp_solve : <code>1 + contraintes + variables</code> cases, la case <code>0</code> étant
+     *           ignorée, avec d'abord les indices des variables de base, puis ceux des variables hors base (négatifs
+     *           à leur borne inférieure). Les indices <code>1</code> à <code>contraintes</code> sont les variables
+     *           d'écart des contraintes, les suivants les variables du problème.
+     *
+     * @return la base, ou <code>null</code> si le problème a été résolu sans lp_solve (voir {@link #solve()})
+     * @throws NonResoluException si le problème n'a pas été résolu au préalable
+     */
+    public int[] getBasis() throws NonResoluException {
+        if (!this.solved)
+            throw new NonResoluException();
+
+        return this.solver.getBase();
+    }
+
+    /**
+     * Fait partir la prochaine résolution d'une base, par exemple celle d'un problème proche (voir
+     * {@link #getBasis()}) : lp_solve n'a alors que quelques pivots à faire.
+     *
+     * @implNote La base n'est donnée au solveur qu'au moment de la résolution. Elle est ignorée si le problème n'a
+     *           plus la même taille, ou s'il n'est pas résolu par lp_solve.
+     *
+     * @param basis la base, au format de {@link #getBasis()}, ou <code>null</code> pour partir de la base par défaut
+     * @return la nouvelle instance du problème
+     */
+    public MLOProblem withBasis(final int[] basis) {
+        this.startBasis = basis;
+        return this;
+    }
+
+    /**
+     * Construit une base proche d'un point, à donner à {@link #withBasis(int[])}.
+     *
+     * @param point les valeurs des variables (par exemple une solution d'un problème proche, voir {@link #getSolution()})
+     * @return la base, ou <code>null</code> si le problème est résolu sans lp_solve
+     */
+    public int[] guessBasis(final double[] point) throws LpSolveException, TailleLigneInvalideException {
+        if (point.length != this.solver.getNbColonnes())
+            throw new TailleLigneInvalideException(point.length, this.solver.getNbColonnes());
+
+        // lp_solve ignore la case 0
+        final double[] guess = new double[point.length + 1];
+        System.arraycopy(point, 0, guess, 1, point.length);
+        return this.solver.devinerBase(guess);
+    }
+
+    /**
+     * Fait simplifier le problème par lp_solve avant chaque résolution.
+     *
+     * @implNote Après la résolution, le problème est le problème simplifié : les contraintes retirées n'y sont plus
+     *           (voir {@link #getOriginalIndex(int)}), et celles qui ne portaient que sur une variable peuvent être
+     *           devenues des bornes de cette variable (voir {@link #getLowerBound(int)}). Le présolve sur les
+     *           colonnes ({@link LpSolve#PRESOLVE_COLS}) retire aussi des variables.
+     *
+     * @param options les constantes <code>PRESOLVE_*</code> de {@link LpSolve}, par exemple
+     *                <code>PRESOLVE_ROWS | PRESOLVE_LINDEP</code>
+     * @return la nouvelle instance du problème
+     */
+    public MLOProblem withPresolve(final int options) {
+        this.presolve = options;
+        return this;
+    }
+
+    /**
+     * Retourne l'indice, dans le problème tel qu'il a été construit, d'une contrainte du problème simplifié par le
+     * présolve (voir {@link #withPresolve(int)}).
+     *
+     * @param nbRow l'indice de la contrainte dans le problème simplifié, à partir de <code>1</code> comme pour
+     *              {@link #getConstraint(int)}
+     * @return l'indice de la contrainte avant le présolve, à partir de <code>1</code>
+     */
+    public int getOriginalIndex(final int nbRow) {
+        return this.solver.getIndexOrigine(nbRow);
+    }
+
+    /**
+     * Retourne l'écart entre les deux parties droites d'une contrainte bornée des deux côtés par le présolve
+     * (<code>b - range ⩽ a·x ⩽ b</code> pour {@link #LE}, <code>b ⩽ a·x ⩽ b + range</code> pour {@link #GE}).
+     *
+     * @param nbRow l'indice de la contrainte, à partir de <code>1</code> comme pour {@link #getConstraint(int)}
+     * @return l'écart, infini (voir {@link #isInfinite(double)}) si la contrainte n'a qu'une partie droite
+     */
+    public double getConstraintRange(final int nbRow) throws LpSolveException {
+        return this.solver.getEtendue(nbRow);
+    }
+
+    /**
+     * Retourne la borne inférieure d'une variable : <code>-∞</code> (voir {@link #isInfinite(double)}), sauf pour
+     * les variables binaires ou après un présolve (voir {@link #withPresolve(int)}).
+     *
+     * @param i l'indice de la variable
+     */
+    public double getLowerBound(final int i) throws LpSolveException {
+        return this.solver.getBorneInf(i + 1);
+    }
+
+    /**
+     * Retourne la borne supérieure d'une variable (voir {@link #getLowerBound(int)}).
+     *
+     * @param i l'indice de la variable
+     */
+    public double getUpperBound(final int i) throws LpSolveException {
+        return this.solver.getBorneSup(i + 1);
+    }
+
+    /**
+     * Change le délai maximal de chaque résolution.
+     *
+     * @implNote lp_solve ne compte qu'en secondes entières ; un délai de <code>0</code> veut dire « sans limite ».
+     *
+     * @param secondes le délai en secondes ({@link #TIMEOUT} par défaut)
+     * @return la nouvelle instance du problème
+     */
+    public MLOProblem withTimeout(final long secondes) {
+        this.solver.setTimeout(secondes);
+        return this;
+    }
+
+    /**
+     * Retourne le délai maximal de chaque résolution, en secondes.
+     */
+    public long getTimeout() {
+        return this.solver.getTimeout();
     }
 
     @Override
     public void close() {
-        this.solver.deleteLp();
+        this.solver.close();
     }
 
     /**
@@ -175,7 +475,7 @@ public final class MLOProblem implements Closeable {
      * @return le nombre de contraintes dans le système
      */
     public int getNbConstraints() {
-        return this.solver.getNrows();
+        return this.solver.getNbLignes();
     }
 
     /**
@@ -184,7 +484,7 @@ public final class MLOProblem implements Closeable {
      * @return le nombre de variables du système
      */
     public int getNbVars() {
-        return this.solver.getNcolumns();
+        return this.solver.getNbColonnes();
     }
 
     /**
@@ -201,7 +501,24 @@ public final class MLOProblem implements Closeable {
      * @throws LpSolveException
      */
     public double[] getConstraint(final int nbRow) throws LpSolveException {
-        return this.solver.getPtrRow(nbRow);
+        return this.solver.getLigne(nbRow);
+    }
+
+    /**
+     * Récupère les coefficients non nuls d'une variable dans toutes les contraintes et la fonction objectif, en un
+     * seul appel à lp_solve.
+     *
+     * @param j l'indice de la variable
+     * @param values rempli avec les coefficients non nuls (doit être de taille au moins {@link #getNbConstraints()}
+     *               <code>+ 1</code>)
+     * @param rows rempli avec les indices des contraintes associées, par ordre croissant (même taille) : comme pour
+     *             {@link #getConstraint(int)}, <code>0</code> pour la fonction objectif et <code>i + 1</code> pour la
+     *             contrainte <code>c_i</code>
+     * @return le nombre de coefficients non nuls
+     * @throws LpSolveException
+     */
+    public int getColumn(final int j, final double[] values, final int[] rows) throws LpSolveException {
+        return this.solver.getColonne(j + 1, values, rows);
     }
 
     /**
@@ -212,7 +529,7 @@ public final class MLOProblem implements Closeable {
      * @return la partie droite d'une contrainte
      */
     public double getConstraintRHS(final int nbRow) {
-        return this.solver.getRh(nbRow);
+        return this.solver.getPartieDroite(nbRow);
     }
 
     /**
@@ -221,7 +538,7 @@ public final class MLOProblem implements Closeable {
      * @return le nouveau problème modifié
      */
     public MLOProblem max() {
-        this.solver.setMaxim();
+        this.solver.setMax(true);
         return this;
     }
 
@@ -231,7 +548,7 @@ public final class MLOProblem implements Closeable {
      * @return le nouveau problème modifié
      */
     public MLOProblem min() {
-        this.solver.setMinim();
+        this.solver.setMax(false);
         return this;
     }
 
@@ -242,14 +559,39 @@ public final class MLOProblem implements Closeable {
      * @return le type de la variable
      */
     public VarType getVarType(final int i) throws ColonneInvalideException {
-        if (i < 0 || i >= this.solver.getNcolumns())
-            throw new ColonneInvalideException(i, this.solver.getNcolumns() - 1);
+        if (i < 0 || i >= this.solver.getNbColonnes())
+            throw new ColonneInvalideException(i, this.solver.getNbColonnes() - 1);
 
-        if (this.solver.isInt(i)) return VarType.INT;
-        if (this.solver.isBinary(i)) return VarType.BINARY;
+        if (this.solver.isEntiere(i + 1)) return VarType.INT;
+        if (this.solver.isBinaire(i + 1)) return VarType.BINARY;
         return VarType.REAL;
     }
 
+    /**
+     * Retourne les types de toutes les variables du problème.
+     */
+    public VarType[] getVarTypes() {
+        final VarType[] types = new VarType[this.solver.getNbColonnes()];
+        for (int j = 0; j < types.length; ++j) {
+            types[j] = this.solver.isEntiere(j + 1) ? VarType.INT : this.solver.isBinaire(j + 1) ? VarType.BINARY : VarType.REAL;
+        }
+        return types;
+    }
+
+    /**
+     * Retourne les types de toutes les contraintes du système.
+     *
+     * @return le type de chaque contrainte, la contrainte <code>c_i</code> étant à l'indice <code>i</code>
+     * @throws LpSolveException
+     */
+    public int[] getConstraintTypes() throws LpSolveException {
+        final int[] types = new int[this.solver.getNbLignes()];
+        for (int i = 0; i < types.length; ++i) {
+            types[i] = this.solver.getType(i + 1);
+        }
+        return types;
+    }
+
     /**
      * Récupère le type de la contrainte numéro <code>i</code> dans le système.
      *
@@ -258,10 +600,59 @@ public final class MLOProblem implements Closeable {
      * @throws LpSolveException
      */
     public int getConstraintType(final int i) throws LpSolveException, LigneInvalideException {
-        if (i < 0 || i > this.solver.getNrows() - 1)
-            throw new LigneInvalideException(i, this.solver.getNrows() - 1);
+        if (i < 0 || i > this.solver.getNbLignes() - 1)
+            throw new LigneInvalideException(i, this.solver.getNbLignes() - 1);
 
-        return this.solver.getConstrType(i + 1);
+        return this.solver.getType(i + 1);
+    }
+
+    /**
+     * Change le type de la contrainte numéro <code>i</code> dans le système, sans reconstruire le problème.
+     *
+     * @param i l'indice de la contrainte
+     * @param ineqType le nouveau type d'égalité, entre {@link #GE}, {@link #LE} et {@link #EQ}
+     * @return la nouvelle instance du problème
+     * @throws LpSolveException
+     */
+    public MLOProblem withConstraintType(final int i, final int ineqType) throws LpSolveException, LigneInvalideException, TypeInegaliteInvalideException {
+        if (i < 0 || i > this.solver.getNbLignes() - 1)
+            throw new LigneInvalideException(i, this.solver.getNbLignes() - 1);
+        if (ineqType != LE && ineqType != GE && ineqType != EQ)
+            throw new TypeInegaliteInvalideException(ineqType);
+
+        this.solver.setType(i + 1, ineqType);
+        return this;
+    }
+
+    /**
+     * Change la partie droite de la contrainte numéro <code>i</code> dans le système, sans reconstruire le problème.
+     *
+     * @param i l'indice de la contrainte
+     * @param b la nouvelle valeur à droite de l'équation
+     * @return la nouvelle instance du problème
+     * @throws LpSolveException
+     */
+    public MLOProblem withConstraintRHS(final int i, final double b) throws LpSolveException, LigneInvalideException {
+        if (i < 0 || i > this.solver.getNbLignes() - 1)
+            throw new LigneInvalideException(i, this.solver.getNbLignes() - 1);
+
+        this.solver.setPartieDroite(i + 1, b);
+        return this;
+    }
+
+    /**
+     * Retire la contrainte numéro <code>i</code> du système.
+     *
+     * @implNote Les indices des contraintes suivantes sont décalés de 1.
+     *
+     * @param i l'indice de la contrainte
+     * @throws LpSolveException
+     */
+    public void removeConstraint(final int i) throws LpSolveException, LigneInvalideException {
+        if (i < 0 || i > this.solver.getNbLignes() - 1)
+            throw new LigneInvalideException(i, this.solver.getNbLignes() - 1);
+
+        this.solver.retirerLigne(i + 1);
     }
 
     /**
@@ -302,6 +693,23 @@ public final class MLOProblem implements Closeable {
         return this.solveStatus == LpSolve.UNBOUNDED;
     }
 
+    /**
+     * Retourne les valeurs des variables dans la solution trouvée par lp_solve.
+     *
+     * @implNote Ces valeurs n'ont de sens que si le problème est optimal (voir {@link #isOptimal()}).
+     *
+     * @return un nouveau tableau contenant la valeur de chaque variable
+     * @throws NonResoluException si le problème n'a pas été résolu au préalable
+     */
+    public double[] getSolution() throws LpSolveException, NonResoluException {
+        if (!this.solved)
+            throw new NonResoluException();
+
+        final double[] solution = new double[this.solver.getNbColonnes()];
+        this.solver.getVariables(solution);
+        return solution;
+    }
+
     /**
      * Vérifie si le problème résolu est optimal ou sous-optimal.
      *
@@ -315,8 +723,38 @@ public final class MLOProblem implements Closeable {
         return this.solveStatus == LpSolve.OPTIMAL || this.solveStatus == LpSolve.SUBOPTIMAL;
     }
 
+    /**
+     * Vérifie si le présolve a suffi à résoudre le problème (voir {@link #withPresolve(int)}) : lp_solve n'a alors
+     * pas de solution à donner.
+     *
+     * @return <code>true</code> si le problème a été résolu par le présolve, <code>false</code> sinon
+     * @throws NonResoluException si le problème n'a pas été résolu au préalable
+     */
+    public boolean isPresolved() throws NonResoluException {
+        if (!this.solved)
+            throw new NonResoluException();
+
+        return this.solveStatus == LpSolve.PRESOLVED;
+    }
+
+    /**
+     * Vérifie si lp_solve s'est arrêté faute de temps, avec ou sans solution.
+     *
+     * @implNote Dans ce cas, le résultat ne prouve rien : le problème n'est ni infaisable (voir {@link #isInfeasable()})
+     *           ni forcément optimal (une solution sous-optimale est une solution, mais pas un optimum).
+     *
+     * @return <code>true</code> si le délai a été dépassé, <code>false</code> sinon
+     * @throws NonResoluException si le problème n'a pas été résolu au préalable
+     */
+    public boolean isTimedOut() throws NonResoluException {
+        if (!this.solved)
+            throw new NonResoluException();
+
+        return this.solveStatus == LpSolve.TIMEOUT || this.solveStatus == LpSolve.SUBOPTIMAL;
+    }
+
     public void debug() {
-        this.solver.printLp();
+        this.solver.afficher();
     }
 
     /**
@@ -0,0 +1,318 @@
+package model;
+
+import java.nio.DoubleBuffer;
+import java.util.Iterator;
+
+/**
+ * Une matrice à 2 dimensions contenant des nombres flottants.
+ *
+ * Plusieurs représentations sont disponibles : {@link Matrix2} (dense), {@link SparseMatrix} (creuse),
+ * {@link CopyOnWriteMatrix} (dense, lignes partagées entre copies) et {@link OffHeapMatrix} (dense, hors du tas).
+ */
+public interface Matrix extends Iterable<Double[]>, Cloneable {
+    /**
+     * Change la valeur de la case ligne <code>i</code> colonne <code>j</code> au paramètre <code>value</code> donné.
+     *
+     * @param i la ligne de la case
+     * @param j la colonne de la case
+     * @param value la nouvelle valeur de la case
+     */
+    default void set(final int i, final int j, final Double value) {
+        this.setDouble(i, j, value);
+    }
+
+    /**
+     * Change la valeur de la case ligne <code>i</code> colonne <code>j</code> au paramètre <code>value</code> donné.
+     *
+     * @param i la ligne de la case
+     * @param j la colonne de la case
+     * @param value la nouvelle valeur de la case
+     */
+    void setDouble(int i, int j, double value);
+
+    /**
+     * Récupère la valeur de la case ligne <code>i</code> colonne <code>j</code>.
+     *
+     * @param i la ligne de la case
+     * @param j la colonne de la case
+     * @return la valeur contenue dans la case (<code>0</code> si elle n'a pas été initialisée)
+     */
+    default Double get(final int i, final int j) {
+        return this.getDouble(i, j);
+    }
+
+    /**
+     * Récupère la valeur de la case ligne <code>i</code> colonne <code>j</code>, sans passer par un <code>Double</code>.
+     *
+     * @param i la ligne de la case
+     * @param j la colonne de la case
+     * @return la valeur contenue dans la case (<code>0</code> si elle n'a pas été initialisée)
+     */
+    double getDouble(int i, int j);
+
+    /**
+     * Récupère la ligne <code>i</code> de la matrice sous la forme d'un tableau.
+     *
+     * @implNote Le tableau retourné est une copie : le modifier ne modifie pas la matrice.
+     *
+     * @param i le numéro de la ligne
+     * @return un tableau contenant la ligne
+     */
+    default Double[] row(final int i) {
+        final Double[] row = new Double[this.columnCount()];
+        for (int j = 0; j < row.length; ++j) {
+            row[j] = this.getDouble(i, j);
+        }
+        return row;
+    }
+
+    /**
+     * Récupère une vue sur la ligne <code>i</code> de la matrice.
+     *
+     * @implNote Selon la représentation, la vue peut être une copie (voir les implantations).
+     *
+     * @param i le numéro de la ligne
+     * @return une vue de taille {@link #columnCount()} sur la ligne
+     */
+    DoubleBuffer rowView(int i);
+
+    /**
+     * Remplace toute la ligne <code>i</code> par les valeurs données.
+     *
+     * @param i le numéro de la ligne
+     * @param values les nouvelles valeurs, de taille au moins {@link #columnCount()}
+     */
+    default void setRow(final int i, final double[] values) {
+        for (int j = 0; j < this.columnCount(); ++j) {
+            this.setDouble(i, j, values[j]);
+        }
+    }
+
+    /**
+     * Récupère les cases non nulles de la ligne <code>i</code> (coefficient de droite compris).
+     *
+     * @param i le numéro de la ligne
+     * @param columns rempli avec les indices des colonnes non nulles, par ordre croissant
+     *                (doit être de taille au moins {@link #columnCount()})
+     * @param values rempli avec les valeurs associées (doit être de taille au moins {@link #columnCount()})
+     * @return le nombre de cases non nulles
+     */
+    default int rowNonZeros(final int i, final int[] columns, final double[] values) {
+        int count = 0;
+        for (int j = 0; j < this.columnCount(); ++j) {
+            final double value = this.getDouble(i, j);
+            if (value != 0.) {
+                columns[count] = j;
+                values[count] = value;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Récupère les coefficients non nuls de la ligne <code>i</code>, sans la partie droite (la dernière colonne,
+     * voir {@link #rhs(int)}).
+     *
+     * @param i le numéro de la ligne
+     * @param columns rempli avec les indices des colonnes non nulles, par ordre croissant
+     *                (doit être de taille au moins {@link #columnCount()})
+     * @param values rempli avec les valeurs associées (doit être de taille au moins {@link #columnCount()})
+     * @return le nombre de coefficients non nuls
+     */
+    default int lhsNonZeros(final int i, final int[] columns, final double[] values) {
+        final int count = this.rowNonZeros(i, columns, values);
+
+        // la partie droite est la dernière colonne : elle est forcément la dernière non nulle
+        return count > 0 && columns[count - 1] == this.columnCount() - 1 ? count - 1 : count;
+    }
+
+    /**
+     * Retourne la partie droite de la ligne <code>i</code>, dans la dernière colonne.
+     *
+     * @param i le numéro de la ligne
+     */
+    default double rhs(final int i) {
+        return this.getDouble(i, this.columnCount() - 1);
+    }
+
+    /**
+     * Récupère les cases non nulles de la colonne <code>j</code>.
+     *
+     * @param j le numéro de la colonne
+     * @param rows rempli avec les indices des lignes non nulles, par ordre croissant
+     *             (doit être de taille au moins {@link #rowCount()})
+     * @param values rempli avec les valeurs associées (doit être de taille au moins {@link #rowCount()})
+     * @return le nombre de cases non nulles
+     */
+    default int columnNonZeros(final int j, final int[] rows, final double[] values) {
+        int count = 0;
+        for (int i = 0; i < this.rowCount(); ++i) {
+            final double value = this.getDouble(i, j);
+            if (value != 0.) {
+                rows[count] = i;
+                values[count] = value;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Ajoute à la ligne <code>target</code> la ligne <code>source</code> multipliée par <code>lambda</code>
+     * (coefficient de droite compris).
+     *
+     * @implNote Seules les cases non nulles de <code>source</code> sont parcourues : <code>lambda</code> doit être fini.
+     *
+     * @param target la ligne modifiée
+     * @param source la ligne ajoutée
+     * @param lambda le coefficient multiplicateur
+     */
+    default void addScaledRow(final int target, final int source, final double lambda) {
+        final int[] columns = new int[this.columnCount()];
+        final double[] values = new double[this.columnCount()];
+
+        final int count = this.rowNonZeros(source, columns, values);
+        for (int k = 0; k < count; ++k) {
+            this.setDouble(target, columns[k], this.getDouble(target, columns[k]) + lambda * values[k]);
+        }
+    }
+
+    /**
+     * Multiplie la ligne <code>i</code> par <code>lambda</code> (coefficient de droite compris).
+     *
+     * @param i le numéro de la ligne
+     * @param lambda le coefficient multiplicateur
+     */
+    default void scaleRow(final int i, final double lambda) {
+        for (int j = 0; j < this.columnCount(); ++j) {
+            this.setDouble(i, j, lambda * this.getDouble(i, j));
+        }
+    }
+
+    /**
+     * Échange les lignes <code>i</code> et <code>j</code>.
+     *
+     * @param i le numéro de la première ligne
+     * @param j le numéro de la seconde ligne
+     */
+    default void swapRows(final int i, final int j) {
+        final double[] rowI = new double[this.columnCount()];
+        final double[] rowJ = new double[this.columnCount()];
+        this.rowView(i).get(rowI);
+        this.rowView(j).get(rowJ);
+        this.setRow(i, rowJ);
+        this.setRow(j, rowI);
+    }
+
+    /**
+     * Vérifie si les <code>length</code> premières cases de la ligne <code>i</code> sont nulles, à <code>epsilon</code> près.
+     *
+     * @param i le numéro de la ligne
+     * @param length le nombre de colonnes à vérifier
+     * @param epsilon la tolérance
+     * @return <code>true</code> si toutes les cases vérifiées sont nulles
+     */
+    default boolean isRowNearZero(final int i, final int length, final double epsilon) {
+        return RowKernels.isNearZero(this.rowView(i), length, epsilon);
+    }
+
+    /**
+     * Retourne le nombre de lignes dans la matrice.
+     *
+     * @return le nombre de lignes dans la matrice
+     */
+    int rowCount();
+
+    /**
+     * Retourne le nombre de colonnes dans la matrice.
+     *
+     * @return le nombre de colonnes dans la matrice
+     */
+    int columnCount();
+
+    /**
+     * Rajoute une ligne à la fin de la matrice.
+     *
+     * @param row la ligne à rajouter
+     */
+    default void appendRow(final Double[] row) {
+        final double[] row_ = new double[row.length];
+        for (int j = 0; j < row.length; ++j) {
+            row_[j] = row[j];
+        }
+        this.appendRow(row_);
+    }
+
+    /**
+     * Rajoute une ligne à la fin de la matrice.
+     *
+     * @param row la ligne à rajouter
+     */
+    void appendRow(double[] row);
+
+    /**
+     * Retire la ligne à l'indice <code>i</code> de la matrice.
+     *
+     * @implNote Tous les indices après <code>i</code> sont décalés de 1
+     *
+     * @param i l'indice de la ligne à retirer
+     */
+    void removeRow(int i);
+
+    /**
+     * Marque la ligne à l'indice <code>i</code> comme retirée, sans la retirer tout de suite.
+     *
+     * @implNote Les indices des lignes ne changent pas : la ligne reste accessible jusqu'au prochain appel à
+     *           {@link #compact()}, qui retire d'un coup toutes les lignes marquées.
+     *
+     * @param i l'indice de la ligne à retirer
+     */
+    void markRemoved(int i);
+
+    /**
+     * Vérifie si la ligne à l'indice <code>i</code> a été marquée comme retirée par {@link #markRemoved(int)}.
+     *
+     * @param i l'indice de la ligne
+     * @return <code>true</code> si la ligne est en attente de suppression
+     */
+    boolean isRemoved(int i);
+
+    /**
+     * Retire toutes les lignes marquées par {@link #markRemoved(int)}, en une seule passe.
+     *
+     * @implNote Les lignes restantes gardent leur ordre relatif, mais leurs indices sont décalés.
+     */
+    void compact();
+
+    @Override
+    default Iterator<Double[]> iterator() {
+        return new Iterator<>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < Matrix.this.rowCount();
+            }
+
+            @Override
+            public Double[] next() {
+                return Matrix.this.row(i++);
+            }
+        };
+    }
+
+    /**
+     * Crée une matrice remplie de zéros, avec la même représentation que celle-ci.
+     *
+     * @implNote Une matrice dense dans le tas par défaut : une {@link CopyOnWriteMatrix} donne une {@link Matrix2}.
+     *
+     * @param rowCount le nombre de lignes
+     * @param columnCount le nombre de colonnes
+     */
+    default Matrix newMatrix(final int rowCount, final int columnCount) {
+        return new Matrix2(rowCount, columnCount);
+    }
+
+    Matrix clone();
+}
@@ -1,24 +1,53 @@
 package model;
 
+import java.nio.DoubleBuffer;
 import java.util.Arrays;
-import java.util.Iterator;
 
 /**
- * Une matrice à 2 dimensions contenant des objets de type <code>Double</code>.
+ * Une matrice dense à 2 dimensions contenant des nombres flottants.
+ *
+ * @implNote Les coefficients sont stockés ligne par ligne dans un unique tableau de <code>double</code> primitifs.
+ *           La case <code>(i, j)</code> se trouve à l'indice <code>i * stride + j</code>.
+ *           Le tableau est plus grand que nécessaire (sa capacité double quand il est plein), pour que les ajouts de
+ *           lignes se fassent en temps constant amorti.
  */
-public class Matrix2 implements Iterable<Double[]>, Cloneable {
-    private Double[][] innerMatrix;
+public class Matrix2 implements Matrix {
+    /**
+     * Les coefficients de la matrice, ligne par ligne.
+     */
+    private double[] data;
+    /**
+     * Le nombre de lignes de la matrice.
+     */
+    private int rows;
+    /**
+     * Le nombre de colonnes de la matrice.
+     */
+    private int columns;
+    /**
+     * La distance (en nombre de cases) entre le début de deux lignes consécutives dans {@link #data}.
+     */
+    private int stride;
+    /**
+     * Les lignes marquées par {@link #markRemoved(int)}, en attente de {@link #compact()}.
+     *
+     * <code>null</code> si aucune ligne n'est marquée.
+     */
+    private boolean[] removed;
 
     public Matrix2(final int rowCount, final int columnCount) {
-        this.innerMatrix = new Double[rowCount][columnCount];
+        this.data = new double[rowCount * columnCount];
+        this.rows = rowCount;
+        this.columns = columnCount;
+        this.stride = columnCount;
     }
 
-    private Matrix2(final Double[][] matrix) {
-        this.innerMatrix = matrix.clone();
-
-        for (int i = 0; i < matrix.length; ++i) {
-            this.innerMatrix[i] = matrix[i].clone();
-        }
+    private Matrix2(final Matrix2 matrix) {
+        this.data = Arrays.copyOf(matrix.data, matrix.rows * matrix.stride);
+        this.rows = matrix.rows;
+        this.columns = matrix.columns;
+        this.stride = matrix.stride;
+        this.removed = matrix.removed == null ? null : Arrays.copyOf(matrix.removed, matrix.rows);
     }
 
     /**
@@ -28,51 +57,117 @@ public class Matrix2 implements Iterable<Double[]>, Cloneable {
      * @param j la colonne de la case
      * @param value la nouvelle valeur de la case
      */
-    public void set(final int i, final int j, final Double value) {
-        this.innerMatrix[i][j] = value;
+    @Override
+    public void setDouble(final int i, final int j, final double value) {
+        assert(i >= 0 && i < this.rowCount());
+        assert(j >= 0 && j < this.columnCount());
+
+        this.data[i * this.stride + j] = value;
     }
 
     /**
-     * Récupère la valeur de la case ligne <code>i</code> colonne <code>j</code>.
+     * Récupère la valeur de la case ligne <code>i</code> colonne <code>j</code>, sans passer par un <code>Double</code>.
      *
      * @param i la ligne de la case
      * @param j la colonne de la case
-     * @return <code>null</code> si la case n'a pas été initialisée, sinon la valeur contenue dedans
+     * @return la valeur contenue dans la case (<code>0</code> si elle n'a pas été initialisée)
      */
-    public Double get(final int i, final int j) {
+    @Override
+    public double getDouble(final int i, final int j) {
         assert(i >= 0 && i < this.rowCount());
         assert(j >= 0 && j < this.columnCount());
 
-        return this.innerMatrix[i][j];
+        return this.data[i * this.stride + j];
     }
 
     /**
      * Récupère la ligne <code>i</code> de la matrice sous la forme d'un tableau.
      *
+     * @implNote Le tableau retourné est une copie : le modifier ne modifie pas la matrice.
+     *
      * @param i le numéro de la ligne
      * @return un tableau contenant la ligne
      */
+    @Override
     public Double[] row(final int i) {
         assert(i >= 0 && i < this.rowCount());
 
-        return this.innerMatrix[i];
+        final Double[] row = new Double[this.columns];
+        final int offset = i * this.stride;
+        for (int j = 0; j < this.columns; ++j) {
+            row[j] = this.data[offset + j];
+        }
+        return row;
     }
 
+    /**
+     * Récupère une vue sur la ligne <code>i</code> de la matrice, sans copie.
+     *
+     * @implNote Écrire dans la vue modifie directement la matrice.
+     *           La vue n'est plus valide après un appel à {@link #appendRow(double[])} ou {@link #removeRow(int)}.
+     *
+     * @param i le numéro de la ligne
+     * @return une vue de taille {@link #columnCount()} sur la ligne
+     */
     @Override
-    public Iterator<Double[]> iterator() {
-        return new Iterator<>() {
-            private int i = 0;
+    public DoubleBuffer rowView(final int i) {
+        assert(i >= 0 && i < this.rowCount());
 
-            @Override
-            public boolean hasNext() {
-                return i < Matrix2.this.innerMatrix.length;
-            }
+        return DoubleBuffer.wrap(this.data, i * this.stride, this.columns).slice();
+    }
 
-            @Override
-            public Double[] next() {
-                return Matrix2.this.innerMatrix[i++];
+    @Override
+    public void setRow(final int i, final double[] values) {
+        assert(i >= 0 && i < this.rowCount());
+
+        System.arraycopy(values, 0, this.data, i * this.stride, this.columns);
+    }
+
+    @Override
+    public int rowNonZeros(final int i, final int[] columns, final double[] values) {
+        assert(i >= 0 && i < this.rowCount());
+
+        final int offset = i * this.stride;
+        int count = 0;
+        for (int j = 0; j < this.columns; ++j) {
+            final double value = this.data[offset + j];
+            if (value != 0.) {
+                columns[count] = j;
+                values[count] = value;
+                count++;
             }
-        };
+        }
+        return count;
+    }
+
+    @Override
+    public void addScaledRow(final int target, final int source, final double lambda) {
+        assert(target >= 0 && target < this.rowCount());
+        assert(source >= 0 && source < this.rowCount());
+
+        RowKernels.axpy(lambda, this.data, source * this.stride, this.data, target * this.stride, this.columns);
+    }
+
+    @Override
+    public void scaleRow(final int i, final double lambda) {
+        assert(i >= 0 && i < this.rowCount());
+
+        RowKernels.scale(lambda, this.data, i * this.stride, this.columns);
+    }
+
+    @Override
+    public void swapRows(final int i, final int j) {
+        assert(i >= 0 && i < this.rowCount());
+        assert(j >= 0 && j < this.rowCount());
+
+        RowKernels.swap(this.data, i * this.stride, this.data, j * this.stride, this.columns);
+    }
+
+    @Override
+    public boolean isRowNearZero(final int i, final int length, final double epsilon) {
+        assert(i >= 0 && i < this.rowCount());
+
+        return RowKernels.isNearZero(this.data, i * this.stride, length, epsilon);
     }
 
     /**
@@ -80,8 +175,9 @@ public class Matrix2 implements Iterable<Double[]>, Cloneable {
      *
      * @return le nombre de lignes dans la matrice
      */
+    @Override
     public int rowCount() {
-        return this.innerMatrix.length;
+        return this.rows;
     }
 
     /**
@@ -89,8 +185,9 @@ public class Matrix2 implements Iterable<Double[]>, Cloneable {
      *
      * @return le nombre de colonnes dans la matrice
      */
+    @Override
     public int columnCount() {
-        return this.innerMatrix.length == 0 ? 0 : this.innerMatrix[0].length;
+        return this.rows == 0 ? 0 : this.columns;
     }
 
     /**
@@ -98,33 +195,90 @@ public class Matrix2 implements Iterable<Double[]>, Cloneable {
      *
      * @param row la ligne à rajouter
      */
-    public void appendRow(final Double[] row) {
-        int columns = this.columnCount();
-        if (columns == 0)
-            columns = row.length;
+    @Override
+    public void appendRow(final double[] row) {
+        if (this.rows == 0) {
+            this.columns = row.length;
+            this.stride = row.length;
+        }
+
+        final int offset = this.rows * this.stride;
+        if (offset + this.stride > this.data.length) {
+            final int capacity = Math.max(2 * this.rows, 4);
+            this.data = Arrays.copyOf(this.data, capacity * this.stride);
+        }
 
-        final Double[][] newMatrix =  new Double[this.innerMatrix.length + 1][columns];
+        final int length = Math.min(row.length, this.columns);
+        System.arraycopy(row, 0, this.data, offset, length);
+        Arrays.fill(this.data, offset + length, offset + this.stride, 0.);
 
-        System.arraycopy(this.innerMatrix, 0, newMatrix, 0, this.innerMatrix.length);
-        System.arraycopy(row, 0, newMatrix[this.innerMatrix.length], 0, row.length);
+        if (this.removed != null && this.removed.length <= this.rows)
+            this.removed = Arrays.copyOf(this.removed, Math.max(this.capacity(), this.rows + 1));
 
-        this.innerMatrix = newMatrix;
+        this.rows++;
     }
 
     /**
      * Retire la ligne à l'indice <code>i</code> de la matrice.
      *
-     * @implNote Tous les indices après <code>i</code> sont décalés de 1
+     * @implNote Tous les indices après <code>i</code> sont décalés de 1.
+     *           Retirer la dernière ligne se fait en temps constant.
      *
      * @param i l'indice de la ligne à retirer
      */
+    @Override
     public void removeRow(final int i) {
-        final Double[][] proxyMatrix = new Double[this.innerMatrix.length - 1][this.columnCount()];
+        assert(i >= 0 && i < this.rowCount());
 
-        System.arraycopy(this.innerMatrix, 0, proxyMatrix, 0, i);
-        System.arraycopy(this.innerMatrix, i + 1, proxyMatrix, i, this.innerMatrix.length - i - 1);
+        System.arraycopy(this.data, (i + 1) * this.stride, this.data, i * this.stride, (this.rows - i - 1) * this.stride);
+        if (this.removed != null) {
+            System.arraycopy(this.removed, i + 1, this.removed, i, this.rows - i - 1);
+            this.removed[this.rows - 1] = false;
+        }
+
+        this.rows--;
+    }
+
+    @Override
+    public void markRemoved(final int i) {
+        assert(i >= 0 && i < this.rowCount());
+
+        if (this.removed == null)
+            this.removed = new boolean[Math.max(this.capacity(), this.rows)];
+        this.removed[i] = true;
+    }
+
+    @Override
+    public boolean isRemoved(final int i) {
+        return this.removed != null && this.removed[i];
+    }
 
-        this.innerMatrix = proxyMatrix;
+    @Override
+    public void compact() {
+        if (this.removed == null)
+            return;
+
+        int kept = 0;
+        for (int i = 0; i < this.rows; ++i) {
+            if (this.removed[i])
+                continue;
+
+            if (kept != i)
+                System.arraycopy(this.data, i * this.stride, this.data, kept * this.stride, this.stride);
+            kept++;
+        }
+
+        this.rows = kept;
+        this.removed = null;
+    }
+
+    /**
+     * Retourne le nombre de lignes que la matrice peut contenir sans réallocation.
+     *
+     * @return la capacité de la matrice, en nombre de lignes
+     */
+    private int capacity() {
+        return this.stride == 0 ? this.rows : this.data.length / this.stride;
     }
 
     @Override
@@ -132,7 +286,7 @@ public class Matrix2 implements Iterable<Double[]>, Cloneable {
         StringBuilder builder = new StringBuilder("[ ");
 
         for (int i = 0; i < this.rowCount(); ++i) {
-            builder.append(Arrays.toString(this.innerMatrix[i])).append("\n  ");
+            builder.append(Arrays.toString(this.row(i))).append("\n  ");
         }
 
         return builder.append(" ]").toString();
@@ -141,6 +295,6 @@ public class Matrix2 implements Iterable<Double[]>, Cloneable {
     @SuppressWarnings("MethodDoesntCallSuperMethod")
     @Override
     public Matrix2 clone() {
-        return new Matrix2(this.innerMatrix);
+        return new Matrix2(this);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,383 @@
+package model;
+
+import java.io.Closeable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Une matrice dense à 2 dimensions dont les coefficients sont stockés hors du tas Java.
+ *
+ * @implNote Les lignes sont stockées dans des blocs de mémoire directe ({@link ByteBuffer#allocateDirect(int)}) d'au plus
+ *           {@link #CHUNK_BYTES} octets chacun, ce qui permet de dépasser la limite de 2 Go d'un seul tampon.
+ *           Tous les blocs sauf le dernier contiennent exactement {@link #rowsPerChunk} lignes.
+ *
+ *           La mémoire est libérée par {@link #close()} (ou, à défaut, par le ramasse-miettes).
+ *           Après fermeture, la matrice ainsi que les vues retournées par {@link #rowView(int)} ne doivent plus être
+ *           utilisées.
+ */
+public class OffHeapMatrix implements Matrix, Closeable {
+    /**
+     * La taille maximale d'un bloc de mémoire, en octets.
+     */
+    private final static long CHUNK_BYTES = 1L << 30;
+
+    /**
+     * Permet de libérer immédiatement la mémoire d'un tampon direct, si la JVM le permet.
+     */
+    private final static Object UNSAFE;
+    private final static Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // la mémoire sera libérée par le ramasse-miettes
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    /**
+     * Les blocs de mémoire directe, pour pouvoir les libérer.
+     */
+    private ByteBuffer[] buffers = new ByteBuffer[0];
+    /**
+     * Les mêmes blocs, vus comme des tableaux de <code>double</code>.
+     */
+    private DoubleBuffer[] chunks = new DoubleBuffer[0];
+    /**
+     * Le nombre de lignes dans un bloc plein.
+     */
+    private int rowsPerChunk;
+    /**
+     * Le nombre de lignes de la matrice.
+     */
+    private int rows;
+    /**
+     * Le nombre de colonnes de la matrice.
+     */
+    private int columns;
+    /**
+     * Les lignes marquées par {@link #markRemoved(int)}, en attente de {@link #compact()}.
+     *
+     * <code>null</code> si aucune ligne n'est marquée.
+     */
+    private boolean[] removed;
+    private boolean closed = false;
+
+    public OffHeapMatrix(final int rowCount, final int columnCount) {
+        this.columns = columnCount;
+        this.rowsPerChunk = rowsPerChunk(columnCount);
+        this.ensureCapacity(rowCount);
+        this.rows = rowCount;
+    }
+
+    /**
+     * Crée une matrice hors tas contenant les mêmes valeurs que la matrice donnée.
+     *
+     * @param matrix la matrice à copier
+     */
+    public OffHeapMatrix(final Matrix matrix) {
+        this(matrix.rowCount(), matrix.columnCount());
+
+        for (int i = 0; i < this.rows; ++i) {
+            this.rowView(i).put(matrix.rowView(i));
+        }
+    }
+
+    private static int rowsPerChunk(final int columnCount) {
+        return (int) Math.min(Integer.MAX_VALUE / Math.max(columnCount, 1), CHUNK_BYTES / Double.BYTES / Math.max(columnCount, 1));
+    }
+
+    /**
+     * Retourne le nombre de lignes pouvant être stockées sans allouer de mémoire.
+     *
+     * @return la capacité de la matrice, en nombre de lignes
+     */
+    private int capacity() {
+        if (this.chunks.length == 0)
+            return 0;
+
+        final int last = this.chunks.length - 1;
+        return last * this.rowsPerChunk + this.chunks[last].capacity() / this.columns;
+    }
+
+    /**
+     * Alloue suffisamment de mémoire pour contenir <code>rowCount</code> lignes.
+     *
+     * @implNote Seul le dernier bloc est agrandi (en doublant sa taille) : les autres blocs ne sont jamais recopiés.
+     *           Les vues prises sur l'ancien dernier bloc ne voient plus les modifications de la matrice.
+     *
+     * @param rowCount le nombre de lignes à pouvoir stocker
+     */
+    private void ensureCapacity(final int rowCount) {
+        if (this.closed)
+            throw new IllegalStateException("La matrice a déjà été fermée");
+        if (this.columns == 0)
+            return;
+
+        int capacity = this.capacity();
+        while (capacity < rowCount) {
+            final int last = this.chunks.length - 1;
+            final int lastRows = last < 0 ? this.rowsPerChunk : this.chunks[last].capacity() / this.columns;
+
+            if (lastRows < this.rowsPerChunk) {
+                final int newRows = Math.min(this.rowsPerChunk, Math.max(2 * lastRows, rowCount - last * this.rowsPerChunk));
+                final ByteBuffer buffer = allocate(newRows, this.columns);
+                final DoubleBuffer chunk = buffer.asDoubleBuffer();
+                chunk.put(this.chunks[last].duplicate().clear());
+
+                // l'ancien bloc n'est pas libéré ici : une vue prise dessus peut encore être lue, sa mémoire sera
+                // rendue par le ramasse-miettes
+                this.buffers[last] = buffer;
+                this.chunks[last] = chunk;
+            } else {
+                final int newRows = Math.min(this.rowsPerChunk, Math.max(4, rowCount - capacity));
+                final ByteBuffer buffer = allocate(newRows, this.columns);
+
+                this.buffers = Arrays.copyOf(this.buffers, last + 2);
+                this.chunks = Arrays.copyOf(this.chunks, last + 2);
+                this.buffers[last + 1] = buffer;
+                this.chunks[last + 1] = buffer.asDoubleBuffer();
+            }
+
+            capacity = this.capacity();
+        }
+    }
+
+    private static ByteBuffer allocate(final int rowCount, final int columnCount) {
+        return ByteBuffer.allocateDirect(rowCount * columnCount * Double.BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    private static void free(final ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null)
+            return;
+
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            // la mémoire sera libérée par le ramasse-miettes
+        }
+    }
+
+    @Override
+    public void setDouble(final int i, final int j, final double value) {
+        assert(i >= 0 && i < this.rowCount());
+        assert(j >= 0 && j < this.columnCount());
+
+        this.chunks[i / this.rowsPerChunk].put((i % this.rowsPerChunk) * this.columns + j, value);
+    }
+
+    @Override
+    public double getDouble(final int i, final int j) {
+        assert(i >= 0 && i < this.rowCount());
+        assert(j >= 0 && j < this.columnCount());
+
+        return this.chunks[i / this.rowsPerChunk].get((i % this.rowsPerChunk) * this.columns + j);
+    }
+
+    /**
+     * Récupère une vue sur la ligne <code>i</code> de la matrice, sans copie.
+     *
+     * @implNote Écrire dans la vue modifie directement la matrice.
+     *           La vue n'est plus valide après un appel à {@link #appendRow(double[])}, {@link #removeRow(int)} ou
+     *           {@link #close()}.
+     *
+     * @param i le numéro de la ligne
+     * @return une vue de taille {@link #columnCount()} sur la ligne
+     */
+    @Override
+    public DoubleBuffer rowView(final int i) {
+        assert(i >= 0 && i < this.rowCount());
+
+        if (this.columns == 0)
+            return DoubleBuffer.allocate(0);
+
+        final int offset = (i % this.rowsPerChunk) * this.columns;
+        final DoubleBuffer view = this.chunks[i / this.rowsPerChunk].duplicate();
+        view.position(offset).limit(offset + this.columns);
+        return view.slice();
+    }
+
+    @Override
+    public void setRow(final int i, final double[] values) {
+        this.rowView(i).put(values, 0, this.columns);
+    }
+
+    @Override
+    public int rowNonZeros(final int i, final int[] columns, final double[] values) {
+        assert(i >= 0 && i < this.rowCount());
+
+        final DoubleBuffer chunk = this.chunks[i / this.rowsPerChunk];
+        final int offset = (i % this.rowsPerChunk) * this.columns;
+        int count = 0;
+        for (int j = 0; j < this.columns; ++j) {
+            final double value = chunk.get(offset + j);
+            if (value != 0.) {
+                columns[count] = j;
+                values[count] = value;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void addScaledRow(final int target, final int source, final double lambda) {
+        RowKernels.axpy(lambda, this.rowView(source), this.rowView(target));
+    }
+
+    @Override
+    public void scaleRow(final int i, final double lambda) {
+        RowKernels.scale(lambda, this.rowView(i));
+    }
+
+    @Override
+    public void swapRows(final int i, final int j) {
+        RowKernels.swap(this.rowView(i), this.rowView(j));
+    }
+
+    @Override
+    public int rowCount() {
+        return this.rows;
+    }
+
+    @Override
+    public int columnCount() {
+        return this.rows == 0 ? 0 : this.columns;
+    }
+
+    @Override
+    public void appendRow(final double[] row) {
+        if (this.rows == 0 && this.columns != row.length) {
+            this.close();
+            this.closed = false;
+            this.columns = row.length;
+            this.rowsPerChunk = rowsPerChunk(row.length);
+        }
+
+        this.ensureCapacity(this.rows + 1);
+        if (this.removed != null && this.removed.length <= this.rows)
+            this.removed = Arrays.copyOf(this.removed, Math.max(this.capacity(), this.rows + 1));
+        this.rows++;
+
+        final DoubleBuffer view = this.rowView(this.rows - 1);
+        final int length = Math.min(row.length, this.columns);
+        view.put(row, 0, length);
+        while (view.hasRemaining()) {
+            view.put(0.);
+        }
+    }
+
+    @Override
+    public void removeRow(final int i) {
+        assert(i >= 0 && i < this.rowCount());
+
+        for (int k = i; k < this.rows - 1; ++k) {
+            this.rowView(k).put(this.rowView(k + 1));
+        }
+        if (this.removed != null) {
+            System.arraycopy(this.removed, i + 1, this.removed, i, this.rows - i - 1);
+            this.removed[this.rows - 1] = false;
+        }
+
+        this.rows--;
+    }
+
+    @Override
+    public void markRemoved(final int i) {
+        assert(i >= 0 && i < this.rowCount());
+
+        if (this.removed == null)
+            this.removed = new boolean[Math.max(this.capacity(), this.rows)];
+        this.removed[i] = true;
+    }
+
+    @Override
+    public boolean isRemoved(final int i) {
+        return this.removed != null && i < this.removed.length && this.removed[i];
+    }
+
+    @Override
+    public void compact() {
+        if (this.removed == null)
+            return;
+
+        int kept = 0;
+        for (int i = 0; i < this.rows; ++i) {
+            if (this.isRemoved(i))
+                continue;
+
+            if (kept != i)
+                this.rowView(kept).put(this.rowView(i));
+            kept++;
+        }
+
+        this.rows = kept;
+        this.removed = null;
+    }
+
+    /**
+     * Libère la mémoire hors tas utilisée par la matrice.
+     *
+     * @implNote Appeler cette méthode plusieurs fois n'a aucun effet.
+     */
+    @Override
+    public void close() {
+        if (this.closed)
+            return;
+
+        for (final ByteBuffer buffer : this.buffers) {
+            free(buffer);
+        }
+
+        this.buffers = new ByteBuffer[0];
+        this.chunks = new DoubleBuffer[0];
+        this.rows = 0;
+        this.closed = true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[ ");
+
+        for (int i = 0; i < this.rowCount(); ++i) {
+            builder.append(Arrays.toString(this.row(i))).append("\n  ");
+        }
+
+        return builder.append(" ]").toString();
+    }
+
+    /**
+     * @implNote La nouvelle matrice doit elle aussi être fermée avec {@link #close()}.
+     */
+    @Override
+    public OffHeapMatrix newMatrix(final int rowCount, final int columnCount) {
+        return new OffHeapMatrix(rowCount, columnCount);
+    }
+
+    /**
+     * Copie la matrice dans une nouvelle zone de mémoire hors tas.
+     *
+     * @implNote La copie doit elle aussi être fermée avec {@link #close()}.
+     *
+     * @return une copie de la matrice
+     */
+    @SuppressWarnings("MethodDoesntCallSuperMethod")
+    @Override
+    public OffHeapMatrix clone() {
+        final OffHeapMatrix clone = new OffHeapMatrix(this);
+        clone.removed = this.removed == null ? null : Arrays.copyOf(this.removed, this.rows);
+        return clone;
+    }
+}
@@ -0,0 +1,195 @@
+package model;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Les opérations élémentaires sur les lignes d'une matrice dense, utilisées par l'élimination de Gauss.
+ *
+ * @implNote Les boucles sur des tableaux sont volontairement écrites le plus simplement possible (un seul indice,
+ *           pas de dépendance entre les itérations) pour être vectorisées automatiquement par le compilateur JIT
+ *           (SSE/AVX selon le processeur). Les tampons adossés à un tableau passent par ces mêmes boucles, les autres
+ *           (mémoire hors tas) par une boucle case par case.
+ */
+public final class RowKernels {
+    private RowKernels() {}
+
+    /**
+     * Calcule <code>y ← y + a·x</code> sur <code>length</code> cases.
+     *
+     * @param a le coefficient multiplicateur
+     * @param x le tableau de la ligne ajoutée
+     * @param xOffset l'indice de la première case de <code>x</code>
+     * @param y le tableau de la ligne modifiée
+     * @param yOffset l'indice de la première case de <code>y</code>
+     * @param length le nombre de cases
+     */
+    public static void axpy(final double a, final double[] x, final int xOffset, final double[] y, final int yOffset, final int length) {
+        for (int k = 0; k < length; ++k) {
+            y[yOffset + k] += a * x[xOffset + k];
+        }
+    }
+
+    /**
+     * Calcule <code>y ← (((y + a0·x0) + a1·x1) + a2·x2) + a3·x3</code> sur <code>length</code> cases,
+     * où les quatre lignes <code>x</code> sont dans le même tableau.
+     *
+     * @implNote Donne exactement le même résultat que quatre appels successifs à
+     *           {@link #axpy(double, double[], int, double[], int, int)}, mais ne lit et n'écrit <code>y</code>
+     *           qu'une seule fois.
+     *
+     * @param x le tableau contenant les quatre lignes ajoutées (distinct de <code>y</code>)
+     * @param y le tableau de la ligne modifiée
+     * @param yOffset l'indice de la première case de <code>y</code>
+     * @param length le nombre de cases
+     */
+    public static void axpy4(final double a0, final double a1, final double a2, final double a3,
+                             final double[] x, final int x0, final int x1, final int x2, final int x3,
+                             final double[] y, final int yOffset, final int length) {
+        for (int k = 0; k < length; ++k) {
+            double value = y[yOffset + k];
+            value += a0 * x[x0 + k];
+            value += a1 * x[x1 + k];
+            value += a2 * x[x2 + k];
+            value += a3 * x[x3 + k];
+            y[yOffset + k] = value;
+        }
+    }
+
+    /**
+     * Calcule <code>y ← y + a·x</code>, de la position courante jusqu'à la limite de <code>x</code>.
+     *
+     * @implNote Les positions des tampons ne sont pas modifiées.
+     *
+     * @param a le coefficient multiplicateur
+     * @param x la ligne ajoutée
+     * @param y la ligne modifiée, avec au moins autant de cases restantes que <code>x</code>
+     */
+    public static void axpy(final double a, final DoubleBuffer x, final DoubleBuffer y) {
+        final int length = x.remaining();
+        if (x.hasArray() && y.hasArray()) {
+            axpy(a, x.array(), x.arrayOffset() + x.position(), y.array(), y.arrayOffset() + y.position(), length);
+            return;
+        }
+
+        final int xOffset = x.position();
+        final int yOffset = y.position();
+        for (int k = 0; k < length; ++k) {
+            y.put(yOffset + k, y.get(yOffset + k) + a * x.get(xOffset + k));
+        }
+    }
+
+    /**
+     * Calcule <code>x ← a·x</code> sur <code>length</code> cases.
+     *
+     * @param a le coefficient multiplicateur
+     * @param x le tableau de la ligne
+     * @param offset l'indice de la première case
+     * @param length le nombre de cases
+     */
+    public static void scale(final double a, final double[] x, final int offset, final int length) {
+        for (int k = 0; k < length; ++k) {
+            x[offset + k] *= a;
+        }
+    }
+
+    /**
+     * Calcule <code>x ← a·x</code>, de la position courante jusqu'à la limite de <code>x</code>.
+     *
+     * @implNote La position du tampon n'est pas modifiée.
+     *
+     * @param a le coefficient multiplicateur
+     * @param x la ligne
+     */
+    public static void scale(final double a, final DoubleBuffer x) {
+        final int length = x.remaining();
+        if (x.hasArray()) {
+            scale(a, x.array(), x.arrayOffset() + x.position(), length);
+            return;
+        }
+
+        final int offset = x.position();
+        for (int k = 0; k < length; ++k) {
+            x.put(offset + k, a * x.get(offset + k));
+        }
+    }
+
+    /**
+     * Échange le contenu de deux lignes sur <code>length</code> cases.
+     *
+     * @param x le tableau de la première ligne
+     * @param xOffset l'indice de la première case de <code>x</code>
+     * @param y le tableau de la seconde ligne
+     * @param yOffset l'indice de la première case de <code>y</code>
+     * @param length le nombre de cases
+     */
+    public static void swap(final double[] x, final int xOffset, final double[] y, final int yOffset, final int length) {
+        for (int k = 0; k < length; ++k) {
+            final double tmp = x[xOffset + k];
+            x[xOffset + k] = y[yOffset + k];
+            y[yOffset + k] = tmp;
+        }
+    }
+
+    /**
+     * Échange le contenu de deux lignes, de la position courante jusqu'à la limite de <code>x</code>.
+     *
+     * @implNote Les positions des tampons ne sont pas modifiées.
+     *
+     * @param x la première ligne
+     * @param y la seconde ligne, avec au moins autant de cases restantes que <code>x</code>
+     */
+    public static void swap(final DoubleBuffer x, final DoubleBuffer y) {
+        final int length = x.remaining();
+        if (x.hasArray() && y.hasArray()) {
+            swap(x.array(), x.arrayOffset() + x.position(), y.array(), y.arrayOffset() + y.position(), length);
+            return;
+        }
+
+        final int xOffset = x.position();
+        final int yOffset = y.position();
+        for (int k = 0; k < length; ++k) {
+            final double tmp = x.get(xOffset + k);
+            x.put(xOffset + k, y.get(yOffset + k));
+            y.put(yOffset + k, tmp);
+        }
+    }
+
+    /**
+     * Vérifie si toutes les cases d'une ligne sont nulles, à <code>epsilon</code> près.
+     *
+     * @param x le tableau de la ligne
+     * @param offset l'indice de la première case
+     * @param length le nombre de cases à vérifier
+     * @param epsilon la tolérance
+     * @return <code>true</code> si <code>|x[k]| ⩽ epsilon</code> pour toutes les cases
+     */
+    public static boolean isNearZero(final double[] x, final int offset, final int length, final double epsilon) {
+        for (int k = 0; k < length; ++k) {
+            if (Math.abs(x[offset + k]) > epsilon)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Vérifie si les <code>length</code> premières cases d'une ligne sont nulles, à <code>epsilon</code> près.
+     *
+     * @implNote La position du tampon n'est pas modifiée.
+     *
+     * @param x la ligne, à partir de sa position courante
+     * @param length le nombre de cases à vérifier
+     * @param epsilon la tolérance
+     * @return <code>true</code> si <code>|x[k]| ⩽ epsilon</code> pour toutes les cases
+     */
+    public static boolean isNearZero(final DoubleBuffer x, final int length, final double epsilon) {
+        if (x.hasArray())
+            return isNearZero(x.array(), x.arrayOffset() + x.position(), length, epsilon);
+
+        final int offset = x.position();
+        for (int k = 0; k < length; ++k) {
+            if (Math.abs(x.get(offset + k)) > epsilon)
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,166 @@
+package model;
+
+import lpsolve.LpSolveException;
+
+import java.io.Closeable;
+
+/**
+ * Un solveur de problèmes d'optimisation linéaire, utilisé par {@link MLOProblem}.
+ *
+ * @implNote Les conventions sont celles de lp_solve, pour que {@link SolveurLpSolve} n'ait rien à traduire :
+ *           <ul>
+ *               <li>les contraintes et les variables sont numérotées à partir de <code>1</code>, la ligne
+ *                   <code>0</code> étant la fonction objectif ;</li>
+ *               <li>la case <code>0</code> des lignes passées ou retournées est ignorée ;</li>
+ *               <li>les types des contraintes et les statuts de résolution sont les constantes de
+ *                   {@link lpsolve.LpSolve}.</li>
+ *           </ul>
+ *           Toutes les variables sont libres (<code>-∞ ⩽ x ⩽ +∞</code>), sauf les variables binaires.
+ */
+public interface Solveur extends Closeable {
+    int getNbLignes();
+
+    int getNbColonnes();
+
+    void ajouterLigne(double[] ligne, int type, double b) throws LpSolveException;
+
+    /**
+     * Ajoute une contrainte donnée par ses seuls coefficients non nuls.
+     *
+     * @param nb le nombre de coefficients non nuls
+     * @param valeurs les coefficients non nuls, à partir de la case <code>0</code>
+     * @param colonnes les indices (à partir de <code>1</code>) des variables de chaque coefficient
+     */
+    void ajouterLigneCreuse(int nb, double[] valeurs, int[] colonnes, int type, double b) throws LpSolveException;
+
+    /**
+     * Active ou désactive le mode ajout de lignes, où seules des contraintes peuvent être ajoutées, sans que le
+     * solveur ne réorganise le problème après chacune.
+     *
+     * @return <code>false</code> si le mode n'a pas pu être changé
+     */
+    boolean setModeAjout(boolean modeAjout);
+
+    void retirerLigne(int i) throws LpSolveException;
+
+    /**
+     * @param i l'indice de la contrainte, ou <code>0</code> pour la fonction objectif
+     * @return les coefficients de la ligne, à partir de la case <code>1</code>
+     */
+    double[] getLigne(int i) throws LpSolveException;
+
+    /**
+     * Récupère les coefficients non nuls d'une colonne, fonction objectif comprise.
+     *
+     * @param j l'indice de la variable
+     * @param valeurs rempli avec les coefficients non nuls (doit être de taille au moins <code>1 + </code>{@link #getNbLignes()})
+     * @param lignes rempli avec les indices des lignes associées, <code>0</code> pour la fonction objectif, par ordre
+     *               croissant (même taille)
+     * @return le nombre de coefficients non nuls
+     */
+    int getColonne(int j, double[] valeurs, int[] lignes) throws LpSolveException;
+
+    double getPartieDroite(int i);
+
+    void setPartieDroite(int i, double b) throws LpSolveException;
+
+    int getType(int i) throws LpSolveException;
+
+    void setType(int i, int type) throws LpSolveException;
+
+    void setObjectif(double[] ligne) throws LpSolveException;
+
+    void setMax(boolean max);
+
+    boolean isMax();
+
+    void setEntiere(int j, boolean entiere) throws LpSolveException;
+
+    void setBinaire(int j, boolean binaire) throws LpSolveException;
+
+    boolean isEntiere(int j);
+
+    boolean isBinaire(int j);
+
+    /**
+     * @param secondes le délai maximal de chaque résolution, <code>0</code> pour aucun délai
+     */
+    void setTimeout(long secondes);
+
+    long getTimeout();
+
+    /**
+     * Résout le problème.
+     *
+     * @return le statut de la résolution (par exemple {@link lpsolve.LpSolve#OPTIMAL})
+     */
+    int resoudre() throws LpSolveException;
+
+    /**
+     * Retourne la valeur de la fonction objectif trouvée par la dernière résolution.
+     */
+    double getValeurObjectif();
+
+    /**
+     * Copie les valeurs des variables trouvées par la dernière résolution.
+     *
+     * @param valeurs un tableau d'au moins {@link #getNbColonnes()} cases, à partir de la case <code>0</code>
+     */
+    void getVariables(double[] valeurs) throws LpSolveException;
+
+    /**
+     * Retourne la base de la dernière résolution, au format de lp_solve : <code>1 + lignes + colonnes</code> cases,
+     * la case <code>0</code> étant ignorée, avec d'abord les variables de base puis les variables hors base
+     * (négatives à leur borne inférieure). Les indices <code>1</code> à <code>lignes</code> sont les variables d'écart
+     * des contraintes, les suivants les variables du problème.
+     *
+     * @return la base, ou <code>null</code> si le solveur ne gère pas les bases
+     */
+    int[] getBase();
+
+    /**
+     * Fait partir la prochaine résolution de la base donnée (voir {@link #getBase()}).
+     *
+     * @return <code>false</code> si le solveur ne gère pas les bases : la base est alors ignorée
+     */
+    boolean setBase(int[] base) throws LpSolveException;
+
+    /**
+     * Construit une base proche d'un point (voir {@link #getBase()}).
+     *
+     * @param point les valeurs des variables, à partir de la case <code>1</code>
+     * @return la base, ou <code>null</code> si le solveur ne gère pas les bases
+     */
+    int[] devinerBase(double[] point) throws LpSolveException;
+
+    /**
+     * Active le présolve pour les prochaines résolutions : lp_solve simplifie alors le problème avant de le résoudre,
+     * et le problème résolu est le problème simplifié.
+     *
+     * @param options les constantes <code>PRESOLVE_*</code> de {@link lpsolve.LpSolve}
+     * @return <code>false</code> si le solveur ne gère pas le présolve : le problème n'est alors pas simplifié
+     */
+    boolean setPresolve(int options);
+
+    /**
+     * Retourne l'indice, dans le problème avant présolve, de la contrainte <code>i</code>.
+     */
+    int getIndexOrigine(int i);
+
+    /**
+     * Retourne l'écart entre les deux parties droites d'une contrainte bornée des deux côtés (voir
+     * {@link #setPresolve(int)}), une valeur infinie si elle n'a qu'une partie droite.
+     */
+    double getEtendue(int i) throws LpSolveException;
+
+    double getBorneInf(int j) throws LpSolveException;
+
+    double getBorneSup(int j) throws LpSolveException;
+
+    boolean isInfinite(double valeur);
+
+    void afficher();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,206 @@
+package model;
+
+import lpsolve.LpSolve;
+import lpsolve.LpSolveException;
+
+/**
+ * Un {@link Solveur} qui délègue tout à lp_solve.
+ *
+ * @implNote La bibliothèque native n'est chargée qu'à la création du premier solveur de ce type.
+ */
+final class SolveurLpSolve implements Solveur {
+    private final LpSolve solver;
+
+    SolveurLpSolve(final int nbVars) throws LpSolveException {
+        this.solver = LpSolve.makeLp(0, nbVars);
+        this.solver.setVerbose(0);
+        this.solver.setMinim();
+        this.solver.setTimeout(MLOProblem.TIMEOUT);
+
+        for (int i = 0; i < nbVars; ++i) {
+            this.solver.setBounds(i + 1, -this.solver.getInfinite(), this.solver.getInfinite());
+        }
+    }
+
+    @Override
+    public int getNbLignes() {
+        return this.solver.getNrows();
+    }
+
+    @Override
+    public int getNbColonnes() {
+        return this.solver.getNcolumns();
+    }
+
+    @Override
+    public void ajouterLigne(final double[] ligne, final int type, final double b) throws LpSolveException {
+        this.solver.addConstraint(ligne, type, b);
+    }
+
+    @Override
+    public void ajouterLigneCreuse(final int nb, final double[] valeurs, final int[] colonnes, final int type, final double b) throws LpSolveException {
+        this.solver.addConstraintex(nb, valeurs, colonnes, type, b);
+    }
+
+    @Override
+    public boolean setModeAjout(final boolean modeAjout) {
+        return this.solver.setAddRowmode(modeAjout);
+    }
+
+    @Override
+    public void retirerLigne(final int i) throws LpSolveException {
+        this.solver.delConstraint(i);
+    }
+
+    @Override
+    public double[] getLigne(final int i) throws LpSolveException {
+        return this.solver.getPtrRow(i);
+    }
+
+    @Override
+    public int getColonne(final int j, final double[] valeurs, final int[] lignes) throws LpSolveException {
+        return this.solver.getColumnex(j, valeurs, lignes);
+    }
+
+    @Override
+    public double getPartieDroite(final int i) {
+        return this.solver.getRh(i);
+    }
+
+    @Override
+    public void setPartieDroite(final int i, final double b) throws LpSolveException {
+        this.solver.setRh(i, b);
+    }
+
+    @Override
+    public int getType(final int i) throws LpSolveException {
+        return this.solver.getConstrType(i);
+    }
+
+    @Override
+    public void setType(final int i, final int type) throws LpSolveException {
+        this.solver.setConstrType(i, type);
+    }
+
+    @Override
+    public void setObjectif(final double[] ligne) throws LpSolveException {
+        this.solver.setObjFn(ligne);
+    }
+
+    @Override
+    public void setMax(final boolean max) {
+        if (max) this.solver.setMaxim();
+        else this.solver.setMinim();
+    }
+
+    @Override
+    public boolean isMax() {
+        return this.solver.isMaxim();
+    }
+
+    @Override
+    public void setEntiere(final int j, final boolean entiere) throws LpSolveException {
+        this.solver.setInt(j, entiere);
+    }
+
+    @Override
+    public void setBinaire(final int j, final boolean binaire) throws LpSolveException {
+        this.solver.setBinary(j, binaire);
+    }
+
+    @Override
+    public boolean isEntiere(final int j) {
+        return this.solver.isInt(j);
+    }
+
+    @Override
+    public boolean isBinaire(final int j) {
+        return this.solver.isBinary(j);
+    }
+
+    @Override
+    public void setTimeout(final long secondes) {
+        this.solver.setTimeout(secondes);
+    }
+
+    @Override
+    public long getTimeout() {
+        return this.solver.getTimeout();
+    }
+
+    @Override
+    public int resoudre() throws LpSolveException {
+        return this.solver.solve();
+    }
+
+    @Override
+    public double getValeurObjectif() {
+        return this.solver.getObjective();
+    }
+
+    @Override
+    public void getVariables(final double[] valeurs) throws LpSolveException {
+        this.solver.getVariables(valeurs);
+    }
+
+    @Override
+    public int[] getBase() {
+        final int[] base = new int[1 + this.solver.getNrows() + this.solver.getNcolumns()];
+        this.solver.getBasis(base, true);
+        return base;
+    }
+
+    @Override
+    public boolean setBase(final int[] base) throws LpSolveException {
+        this.solver.setBasis(base, true);
+        return true;
+    }
+
+    @Override
+    public int[] devinerBase(final double[] point) throws LpSolveException {
+        final int[] base = new int[1 + this.solver.getNrows() + this.solver.getNcolumns()];
+        this.solver.guessBasis(point, base);
+        return base;
+    }
+
+    @Override
+    public boolean setPresolve(final int options) {
+        this.solver.setPresolve(options, this.solver.getPresolveloops());
+        return true;
+    }
+
+    @Override
+    public int getIndexOrigine(final int i) {
+        return this.solver.getOrigIndex(i);
+    }
+
+    @Override
+    public double getEtendue(final int i) throws LpSolveException {
+        return this.solver.getRhRange(i);
+    }
+
+    @Override
+    public double getBorneInf(final int j) throws LpSolveException {
+        return this.solver.getLowbo(j);
+    }
+
+    @Override
+    public double getBorneSup(final int j) throws LpSolveException {
+        return this.solver.getUpbo(j);
+    }
+
+    @Override
+    public boolean isInfinite(final double valeur) {
+        return this.solver.isInfinite(valeur);
+    }
+
+    @Override
+    public void afficher() {
+        this.solver.printLp();
+    }
+
+    @Override
+    public void close() {
+        this.solver.deleteLp();
+    }
+}
@@ -0,0 +1,561 @@
+package model;
+
+import lpsolve.LpSolve;
+import lpsolve.LpSolveException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un {@link Solveur} en Java, par l'algorithme du simplexe en deux phases sur un tableau dense.
+ *
+ * @implNote Pensé pour les petits problèmes (quelques dizaines de variables et de contraintes), pour lesquels les
+ *           appels à lp_solve (création du problème, passage des lignes par JNI) coûtent plus cher que la résolution.
+ *
+ *           Les variables libres ne sont pas dédoublées (<code>x = x⁺ - x⁻</code>) : une variable libre hors base vaut
+ *           <code>0</code> et peut entrer dans la base en augmentant ou en diminuant (sa colonne est alors changée de
+ *           signe), et une variable libre dans la base ne la quitte jamais (elle ne borne jamais le pas).
+ *           Chaque inégalité a une variable d'écart positive ; une variable artificielle n'est ajoutée que pour les
+ *           lignes dont la variable d'écart ne peut pas former la base de départ.
+ *           La règle de Bland (plus petits indices) évite les cycles sur les problèmes dégénérés.
+ *
+ *           Les variables entières et binaires ne sont pas gérées : {@link MLOProblem} passe alors à lp_solve.
+ */
+final class SolveurSimplexe implements Solveur {
+    private final static double INFINI = 1e30;
+    /**
+     * La plus petite valeur considérée non nulle pour un pivot ou un coût réduit.
+     */
+    private final static double EPSILON = 1e-9;
+    /**
+     * La tolérance sur la somme des variables artificielles à la fin de la première phase.
+     */
+    private final static double TOLERANCE = 1e-7;
+
+    private final int nbVars;
+
+    private final List<double[]> lignes = new ArrayList<>();
+    private final List<Integer> types = new ArrayList<>();
+    private final List<Double> partiesDroites = new ArrayList<>();
+
+    private double[] objectif;
+    private boolean max = false;
+    private final boolean[] entieres;
+    private final boolean[] binaires;
+    private long timeout = MLOProblem.TIMEOUT;
+
+    private double valeur = 0.;
+    private final double[] solution;
+
+    // le tableau de la résolution en cours
+    private double[][] tableau;
+    private int[] base;
+    private boolean[] dansLaBase;
+    private int nbColonnes;
+    private int premiereArtificielle;
+    // le début de la résolution en cours et sa durée maximale, en nanosecondes (0 : sans limite)
+    private long debut;
+    private long delai;
+
+    SolveurSimplexe(final int nbVars) {
+        this.nbVars = nbVars;
+        this.objectif = new double[nbVars + 1];
+        this.entieres = new boolean[nbVars + 1];
+        this.binaires = new boolean[nbVars + 1];
+        this.solution = new double[nbVars];
+    }
+
+    /**
+     * Vérifie si ce solveur peut résoudre le problème : pas de variable entière ni binaire.
+     */
+    boolean isContinu() {
+        for (int j = 1; j <= this.nbVars; ++j) {
+            if (this.entieres[j] || this.binaires[j])
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int getNbLignes() {
+        return this.lignes.size();
+    }
+
+    @Override
+    public int getNbColonnes() {
+        return this.nbVars;
+    }
+
+    @Override
+    public void ajouterLigne(final double[] ligne, final int type, final double b) throws LpSolveException {
+        if (ligne.length < this.nbVars + 1)
+            throw new LpSolveException("Ligne trop courte : " + ligne.length + " cases pour " + this.nbVars + " variables");
+
+        // la ligne peut être un tampon réutilisé par l'appelant
+        this.lignes.add(Arrays.copyOf(ligne, this.nbVars + 1));
+        this.types.add(type);
+        this.partiesDroites.add(b);
+    }
+
+    @Override
+    public void ajouterLigneCreuse(final int nb, final double[] valeurs, final int[] colonnes, final int type, final double b) throws LpSolveException {
+        final double[] ligne = new double[this.nbVars + 1];
+        for (int k = 0; k < nb; ++k) {
+            if (colonnes[k] < 1 || colonnes[k] > this.nbVars)
+                throw new LpSolveException("Colonne invalide : " + colonnes[k]);
+
+            ligne[colonnes[k]] = valeurs[k];
+        }
+
+        this.lignes.add(ligne);
+        this.types.add(type);
+        this.partiesDroites.add(b);
+    }
+
+    /**
+     * @implNote Les lignes sont déjà ajoutées sans autre traitement : le mode n'a pas d'effet.
+     */
+    @Override
+    public boolean setModeAjout(final boolean modeAjout) {
+        return true;
+    }
+
+    @Override
+    public void retirerLigne(final int i) throws LpSolveException {
+        this.verifierLigne(i);
+
+        this.lignes.remove(i - 1);
+        this.types.remove(i - 1);
+        this.partiesDroites.remove(i - 1);
+    }
+
+    @Override
+    public double[] getLigne(final int i) throws LpSolveException {
+        if (i == 0)
+            return this.objectif.clone();
+
+        this.verifierLigne(i);
+        return this.lignes.get(i - 1).clone();
+    }
+
+    @Override
+    public int getColonne(final int j, final double[] valeurs, final int[] lignes) throws LpSolveException {
+        if (j < 1 || j > this.nbVars)
+            throw new LpSolveException("Colonne invalide : " + j);
+
+        int count = 0;
+        for (int i = 0; i <= this.lignes.size(); ++i) {
+            final double valeur = i == 0 ? this.objectif[j] : this.lignes.get(i - 1)[j];
+            if (valeur != 0.) {
+                valeurs[count] = valeur;
+                lignes[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public double getPartieDroite(final int i) {
+        return i < 1 || i > this.lignes.size() ? 0. : this.partiesDroites.get(i - 1);
+    }
+
+    @Override
+    public void setPartieDroite(final int i, final double b) throws LpSolveException {
+        this.verifierLigne(i);
+        this.partiesDroites.set(i - 1, b);
+    }
+
+    @Override
+    public int getType(final int i) throws LpSolveException {
+        this.verifierLigne(i);
+        return this.types.get(i - 1);
+    }
+
+    @Override
+    public void setType(final int i, final int type) throws LpSolveException {
+        this.verifierLigne(i);
+        this.types.set(i - 1, type);
+    }
+
+    private void verifierLigne(final int i) throws LpSolveException {
+        if (i < 1 || i > this.lignes.size())
+            throw new LpSolveException("Ligne " + i + " inexistante");
+    }
+
+    @Override
+    public void setObjectif(final double[] ligne) throws LpSolveException {
+        if (ligne.length < this.nbVars + 1)
+            throw new LpSolveException("Ligne trop courte : " + ligne.length + " cases pour " + this.nbVars + " variables");
+
+        this.objectif = Arrays.copyOf(ligne, this.nbVars + 1);
+        this.objectif[0] = 0.;
+    }
+
+    @Override
+    public void setMax(final boolean max) {
+        this.max = max;
+    }
+
+    @Override
+    public boolean isMax() {
+        return this.max;
+    }
+
+    @Override
+    public void setEntiere(final int j, final boolean entiere) {
+        this.entieres[j] = entiere;
+    }
+
+    @Override
+    public void setBinaire(final int j, final boolean binaire) {
+        this.binaires[j] = binaire;
+    }
+
+    @Override
+    public boolean isEntiere(final int j) {
+        return j >= 1 && j <= this.nbVars && this.entieres[j];
+    }
+
+    @Override
+    public boolean isBinaire(final int j) {
+        return j >= 1 && j <= this.nbVars && this.binaires[j];
+    }
+
+    @Override
+    public void setTimeout(final long secondes) {
+        this.timeout = secondes;
+    }
+
+    @Override
+    public long getTimeout() {
+        return this.timeout;
+    }
+
+    @Override
+    public double getValeurObjectif() {
+        return this.valeur;
+    }
+
+    @Override
+    public void getVariables(final double[] valeurs) {
+        System.arraycopy(this.solution, 0, valeurs, 0, this.nbVars);
+    }
+
+    /**
+     * @implNote Les problèmes résolus par ce solveur sont assez petits pour repartir à chaque fois des variables
+     *           d'écart : les bases ne sont pas gérées.
+     */
+    @Override
+    public int[] getBase() {
+        return null;
+    }
+
+    @Override
+    public boolean setBase(final int[] base) {
+        return false;
+    }
+
+    @Override
+    public int[] devinerBase(final double[] point) {
+        return null;
+    }
+
+    /**
+     * @implNote Le présolve n'est pas géré : {@link MLOProblem} transmet le problème à lp_solve s'il est demandé.
+     */
+    @Override
+    public boolean setPresolve(final int options) {
+        return options == LpSolve.PRESOLVE_NONE;
+    }
+
+    @Override
+    public int getIndexOrigine(final int i) {
+        return i;
+    }
+
+    @Override
+    public double getEtendue(final int i) {
+        return INFINI;
+    }
+
+    @Override
+    public double getBorneInf(final int j) {
+        return this.binaires[j] ? 0. : -INFINI;
+    }
+
+    @Override
+    public double getBorneSup(final int j) {
+        return this.binaires[j] ? 1. : INFINI;
+    }
+
+    @Override
+    public boolean isInfinite(final double valeur) {
+        return Math.abs(valeur) >= INFINI;
+    }
+
+    @Override
+    public void afficher() {
+        System.out.println((this.max ? "max: " : "min: ") + Arrays.toString(Arrays.copyOfRange(this.objectif, 1, this.nbVars + 1)));
+        for (int i = 0; i < this.lignes.size(); ++i) {
+            final int type = this.types.get(i);
+            System.out.println("R" + (i + 1) + ": " + Arrays.toString(Arrays.copyOfRange(this.lignes.get(i), 1, this.nbVars + 1))
+                    + (type == LpSolve.EQ ? " = " : type == LpSolve.LE ? " <= " : " >= ") + this.partiesDroites.get(i));
+        }
+    }
+
+    @Override
+    public void close() {
+        this.tableau = null;
+    }
+
+    @Override
+    public int resoudre() {
+        Arrays.fill(this.solution, 0.);
+        this.valeur = 0.;
+        // TimeUnit sature au lieu de déborder, et la comparaison des durées reste juste si nanoTime() déborde
+        this.debut = System.nanoTime();
+        this.delai = this.timeout > 0 ? TimeUnit.SECONDS.toNanos(this.timeout) : 0;
+
+        final int m = this.lignes.size();
+        final int[] signes = this.initialiser();
+
+        // première phase : minimiser la somme des variables artificielles
+        final double[] couts = new double[this.nbColonnes];
+        for (int k = this.premiereArtificielle; k < this.nbColonnes; ++k)
+            couts[k] = 1.;
+        this.calculerCoutsReduits(couts);
+
+        int statut = this.simplexe(true, signes);
+        if (statut != LpSolve.OPTIMAL) {
+            this.tableau = null;
+            // la somme des variables artificielles est bornée par 0 : elle ne peut décroître indéfiniment qu'à cause
+            // d'erreurs d'arrondi
+            return statut == LpSolve.UNBOUNDED ? LpSolve.NUMFAILURE : statut;
+        }
+
+        if (-this.tableau[m][this.nbColonnes] > TOLERANCE) {
+            this.tableau = null;
+            return LpSolve.INFEASIBLE;
+        }
+
+        this.sortirArtificielles();
+
+        // deuxième phase : la fonction objectif, toujours minimisée
+        Arrays.fill(couts, 0.);
+        for (int j = 0; j < this.nbVars; ++j)
+            couts[j] = (this.max ? -this.objectif[j + 1] : this.objectif[j + 1]) * signes[j];
+        this.calculerCoutsReduits(couts);
+
+        statut = this.simplexe(false, signes);
+
+        if (statut == LpSolve.UNBOUNDED) {
+            this.valeur = this.max ? INFINI : -INFINI;
+        } else {
+            for (int i = 0; i < m; ++i) {
+                if (this.base[i] < this.nbVars)
+                    this.solution[this.base[i]] = signes[this.base[i]] * this.tableau[i][this.nbColonnes];
+            }
+            for (int j = 0; j < this.nbVars; ++j)
+                this.valeur += this.objectif[j + 1] * this.solution[j];
+        }
+
+        this.tableau = null;
+        return statut;
+    }
+
+    /**
+     * Construit le tableau de départ, avec une base faite de variables d'écart et de variables artificielles.
+     *
+     * @return le signe de chaque variable dans le tableau (<code>1</code> au départ)
+     */
+    private int[] initialiser() {
+        final int m = this.lignes.size();
+
+        int nbEcarts = 0;
+        int nbArtificielles = 0;
+        for (int i = 0; i < m; ++i) {
+            final int type = this.types.get(i);
+            if (type != LpSolve.EQ)
+                nbEcarts++;
+            if (!this.ecartDeBase(type, this.partiesDroites.get(i)))
+                nbArtificielles++;
+        }
+
+        this.premiereArtificielle = this.nbVars + nbEcarts;
+        this.nbColonnes = this.premiereArtificielle + nbArtificielles;
+        this.tableau = new double[m + 1][this.nbColonnes + 1];
+        this.base = new int[m];
+        this.dansLaBase = new boolean[this.nbColonnes];
+
+        int ecart = this.nbVars;
+        int artificielle = this.premiereArtificielle;
+        for (int i = 0; i < m; ++i) {
+            final double[] ligne = this.lignes.get(i);
+            final int type = this.types.get(i);
+            final double b = this.partiesDroites.get(i);
+            final double[] t = this.tableau[i];
+
+            // partie droite positive : la ligne est changée de signe si besoin
+            final double signe = b < 0 ? -1. : 1.;
+            for (int j = 0; j < this.nbVars; ++j)
+                t[j] = signe * ligne[j + 1];
+            t[this.nbColonnes] = signe * b;
+
+            if (type != LpSolve.EQ) {
+                t[ecart] = signe * (type == LpSolve.LE ? 1. : -1.);
+                if (this.ecartDeBase(type, b))
+                    this.base[i] = ecart;
+                ecart++;
+            }
+            if (!this.ecartDeBase(type, b)) {
+                t[artificielle] = 1.;
+                this.base[i] = artificielle++;
+            }
+
+            this.dansLaBase[this.base[i]] = true;
+        }
+
+        final int[] signes = new int[this.nbVars];
+        Arrays.fill(signes, 1);
+        return signes;
+    }
+
+    /**
+     * Vérifie si la variable d'écart d'une ligne peut être dans la base de départ : son coefficient est <code>+1</code>
+     * une fois la partie droite rendue positive.
+     */
+    private boolean ecartDeBase(final int type, final double b) {
+        return (type == LpSolve.LE && b >= 0) || (type == LpSolve.GE && b < 0);
+    }
+
+    /**
+     * Remplit la ligne des coûts réduits pour les coûts donnés et la base courante.
+     */
+    private void calculerCoutsReduits(final double[] couts) {
+        final int m = this.lignes.size();
+        final double[] reduits = this.tableau[m];
+
+        System.arraycopy(couts, 0, reduits, 0, this.nbColonnes);
+        reduits[this.nbColonnes] = 0.;
+        for (int i = 0; i < m; ++i) {
+            final double c = couts[this.base[i]];
+            if (c == 0.)
+                continue;
+
+            final double[] t = this.tableau[i];
+            for (int k = 0; k <= this.nbColonnes; ++k)
+                reduits[k] -= c * t[k];
+        }
+    }
+
+    /**
+     * Fait des pivots jusqu'à l'optimum.
+     *
+     * @param premierePhase <code>true</code> pendant la première phase : les variables artificielles peuvent encore
+     *                      être dans la base
+     * @return {@link LpSolve#OPTIMAL}, {@link LpSolve#UNBOUNDED}, ou {@link LpSolve#TIMEOUT} ou
+     *         {@link LpSolve#SUBOPTIMAL} si le délai est dépassé pendant la première ou la deuxième phase
+     */
+    private int simplexe(final boolean premierePhase, final int[] signes) {
+        final int m = this.lignes.size();
+        final double[] reduits = this.tableau[m];
+
+        while (true) {
+            if (this.delai != 0 && System.nanoTime() - this.debut >= this.delai)
+                return premierePhase ? LpSolve.TIMEOUT : LpSolve.SUBOPTIMAL;
+
+            // variable entrante : la première dont le coût réduit fait baisser l'objectif (règle de Bland)
+            int entrante = -1;
+            for (int k = 0; k < this.premiereArtificielle && entrante == -1; ++k) {
+                if (this.dansLaBase[k])
+                    continue;
+
+                if (reduits[k] < -EPSILON) {
+                    entrante = k;
+                } else if (k < this.nbVars && reduits[k] > EPSILON) {
+                    // variable libre hors base : elle entre en diminuant, sa colonne change de signe
+                    for (int i = 0; i <= m; ++i)
+                        this.tableau[i][k] = -this.tableau[i][k];
+                    signes[k] = -signes[k];
+                    entrante = k;
+                }
+            }
+
+            if (entrante == -1)
+                return LpSolve.OPTIMAL;
+
+            // variable sortante : le plus petit rapport parmi les variables positives de la base
+            int sortante = -1;
+            double pas = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < m; ++i) {
+                if (this.base[i] < this.nbVars)
+                    continue;
+
+                final double a = this.tableau[i][entrante];
+                if (a <= EPSILON)
+                    continue;
+
+                final double rapport = Math.max(0., this.tableau[i][this.nbColonnes]) / a;
+                if (rapport < pas || (rapport == pas && this.base[i] < this.base[sortante])) {
+                    pas = rapport;
+                    sortante = i;
+                }
+            }
+
+            if (sortante == -1)
+                return LpSolve.UNBOUNDED;
+
+            this.pivoter(sortante, entrante);
+        }
+    }
+
+    /**
+     * Sort de la base les variables artificielles restées à <code>0</code> à la fin de la première phase.
+     *
+     * @implNote Une ligne dont toutes les autres colonnes sont nulles est une combinaison des autres : sa variable
+     *           artificielle reste dans la base à <code>0</code>, et la ligne n'est plus jamais modifiée.
+     */
+    private void sortirArtificielles() {
+        final int m = this.lignes.size();
+
+        for (int i = 0; i < m; ++i) {
+            if (this.base[i] < this.premiereArtificielle)
+                continue;
+
+            for (int k = 0; k < this.premiereArtificielle; ++k) {
+                if (!this.dansLaBase[k] && Math.abs(this.tableau[i][k]) > EPSILON) {
+                    this.pivoter(i, k);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void pivoter(final int r, final int k) {
+        final double[] pivot = this.tableau[r];
+        final double p = pivot[k];
+        for (int c = 0; c <= this.nbColonnes; ++c)
+            pivot[c] /= p;
+        pivot[k] = 1.;
+
+        for (int i = 0; i < this.tableau.length; ++i) {
+            if (i == r)
+                continue;
+
+            final double[] t = this.tableau[i];
+            final double f = t[k];
+            if (f == 0.)
+                continue;
+
+            for (int c = 0; c <= this.nbColonnes; ++c)
+                t[c] -= f * pivot[c];
+            t[k] = 0.;
+        }
+
+        this.dansLaBase[this.base[r]] = false;
+        this.dansLaBase[k] = true;
+        this.base[r] = k;
+    }
+}
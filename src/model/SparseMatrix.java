@@ -0,0 +1,491 @@
+package model;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Une matrice creuse à 2 dimensions contenant des nombres flottants.
+ *
+ * @implNote Les cases non nulles sont stockées ligne par ligne (CSR) : pour chaque ligne, les indices des colonnes
+ *           non nulles (triés par ordre croissant) et les valeurs associées.
+ *           Un index par colonne (CSC) est construit à la demande par {@link #columnNonZeros(int, int[], double[])}
+ *           et invalidé à chaque modification.
+ *           Comme pour {@link Matrix2}, la capacité en lignes double quand elle est atteinte.
+ */
+public class SparseMatrix implements Matrix {
+    private final static int[] NO_COLUMNS = new int[0];
+    private final static double[] NO_VALUES = new double[0];
+
+    /**
+     * Pour chaque ligne, les indices des colonnes non nulles.
+     */
+    private int[][] columnIndices;
+    /**
+     * Pour chaque ligne, les valeurs des colonnes non nulles.
+     */
+    private double[][] values;
+    /**
+     * Pour chaque ligne, le nombre de cases non nulles.
+     */
+    private int[] nonZeros;
+    /**
+     * Le nombre de lignes de la matrice.
+     */
+    private int rows;
+    /**
+     * Le nombre de colonnes de la matrice.
+     */
+    private int columns;
+
+    /**
+     * L'index par colonne : les cases non nulles de la colonne <code>j</code> sont entre
+     * <code>columnStart[j]</code> et <code>columnStart[j + 1]</code>.
+     *
+     * <code>null</code> si l'index doit être reconstruit.
+     */
+    private int[] columnStart;
+    private int[] rowIndices;
+    private double[] columnValues;
+
+    /**
+     * Les lignes marquées par {@link #markRemoved(int)}, en attente de {@link #compact()}.
+     *
+     * <code>null</code> si aucune ligne n'est marquée.
+     */
+    private boolean[] removed;
+
+    public SparseMatrix(final int rowCount, final int columnCount) {
+        this.columnIndices = new int[rowCount][];
+        this.values = new double[rowCount][];
+        this.nonZeros = new int[rowCount];
+        this.rows = rowCount;
+        this.columns = columnCount;
+
+        Arrays.fill(this.columnIndices, NO_COLUMNS);
+        Arrays.fill(this.values, NO_VALUES);
+    }
+
+    /**
+     * Crée une matrice creuse contenant les mêmes valeurs que la matrice donnée.
+     *
+     * @param matrix la matrice à copier
+     */
+    public SparseMatrix(final Matrix matrix) {
+        this(matrix.rowCount(), matrix.columnCount());
+
+        final int[] columns = new int[this.columns];
+        final double[] values = new double[this.columns];
+        for (int i = 0; i < this.rows; ++i) {
+            final int count = matrix.rowNonZeros(i, columns, values);
+            this.columnIndices[i] = Arrays.copyOf(columns, count);
+            this.values[i] = Arrays.copyOf(values, count);
+            this.nonZeros[i] = count;
+        }
+    }
+
+    /**
+     * Cherche la position de la colonne <code>j</code> dans la ligne <code>i</code>.
+     *
+     * @return la position de la colonne si elle est non nulle, sinon <code>-(point d'insertion) - 1</code>
+     */
+    private int find(final int i, final int j) {
+        return Arrays.binarySearch(this.columnIndices[i], 0, this.nonZeros[i], j);
+    }
+
+    @Override
+    public void setDouble(final int i, final int j, final double value) {
+        assert(i >= 0 && i < this.rowCount());
+        assert(j >= 0 && j < this.columnCount());
+
+        final int pos = this.find(i, j);
+        final int count = this.nonZeros[i];
+
+        if (pos >= 0) {
+            if (value != 0.) {
+                this.values[i][pos] = value;
+            } else {
+                System.arraycopy(this.columnIndices[i], pos + 1, this.columnIndices[i], pos, count - pos - 1);
+                System.arraycopy(this.values[i], pos + 1, this.values[i], pos, count - pos - 1);
+                this.nonZeros[i]--;
+            }
+        } else if (value != 0.) {
+            final int insert = -pos - 1;
+
+            if (count == this.columnIndices[i].length) {
+                final int capacity = Math.min(Math.max(2 * count, 4), this.columns);
+                this.columnIndices[i] = Arrays.copyOf(this.columnIndices[i], capacity);
+                this.values[i] = Arrays.copyOf(this.values[i], capacity);
+            }
+
+            System.arraycopy(this.columnIndices[i], insert, this.columnIndices[i], insert + 1, count - insert);
+            System.arraycopy(this.values[i], insert, this.values[i], insert + 1, count - insert);
+            this.columnIndices[i][insert] = j;
+            this.values[i][insert] = value;
+            this.nonZeros[i]++;
+        } else {
+            return;
+        }
+
+        this.columnStart = null;
+    }
+
+    @Override
+    public double getDouble(final int i, final int j) {
+        assert(i >= 0 && i < this.rowCount());
+        assert(j >= 0 && j < this.columnCount());
+
+        final int pos = this.find(i, j);
+        return pos >= 0 ? this.values[i][pos] : 0.;
+    }
+
+    /**
+     * Récupère la ligne <code>i</code> de la matrice sous une forme dense.
+     *
+     * @implNote Contrairement à {@link Matrix2#rowView(int)}, la vue retournée est une copie :
+     *           écrire dedans ne modifie pas la matrice.
+     *
+     * @param i le numéro de la ligne
+     * @return une copie dense de la ligne
+     */
+    @Override
+    public DoubleBuffer rowView(final int i) {
+        assert(i >= 0 && i < this.rowCount());
+
+        final double[] row = new double[this.columns];
+        for (int k = 0; k < this.nonZeros[i]; ++k) {
+            row[this.columnIndices[i][k]] = this.values[i][k];
+        }
+        return DoubleBuffer.wrap(row);
+    }
+
+    @Override
+    public void setRow(final int i, final double[] values) {
+        assert(i >= 0 && i < this.rowCount());
+
+        int count = 0;
+        for (int j = 0; j < this.columns; ++j) {
+            if (values[j] != 0.) count++;
+        }
+
+        final int[] columnIndices = new int[count];
+        final double[] rowValues = new double[count];
+        count = 0;
+        for (int j = 0; j < this.columns; ++j) {
+            if (values[j] != 0.) {
+                columnIndices[count] = j;
+                rowValues[count] = values[j];
+                count++;
+            }
+        }
+
+        this.columnIndices[i] = columnIndices;
+        this.values[i] = rowValues;
+        this.nonZeros[i] = count;
+        this.columnStart = null;
+    }
+
+    @Override
+    public int rowNonZeros(final int i, final int[] columns, final double[] values) {
+        assert(i >= 0 && i < this.rowCount());
+
+        final int count = this.nonZeros[i];
+        System.arraycopy(this.columnIndices[i], 0, columns, 0, count);
+        System.arraycopy(this.values[i], 0, values, 0, count);
+        return count;
+    }
+
+    @Override
+    public int columnNonZeros(final int j, final int[] rows, final double[] values) {
+        assert(j >= 0 && j < this.columnCount());
+
+        if (this.columnStart == null)
+            this.buildColumnIndex();
+
+        final int start = this.columnStart[j];
+        final int count = this.columnStart[j + 1] - start;
+        System.arraycopy(this.rowIndices, start, rows, 0, count);
+        System.arraycopy(this.columnValues, start, values, 0, count);
+        return count;
+    }
+
+    /**
+     * Construit l'index par colonne (CSC) à partir des lignes.
+     */
+    private void buildColumnIndex() {
+        final int[] columnStart = new int[this.columns + 1];
+        for (int i = 0; i < this.rows; ++i) {
+            for (int k = 0; k < this.nonZeros[i]; ++k) {
+                columnStart[this.columnIndices[i][k] + 1]++;
+            }
+        }
+        for (int j = 0; j < this.columns; ++j) {
+            columnStart[j + 1] += columnStart[j];
+        }
+
+        final int[] next = Arrays.copyOf(columnStart, this.columns);
+        final int[] rowIndices = new int[columnStart[this.columns]];
+        final double[] columnValues = new double[columnStart[this.columns]];
+        for (int i = 0; i < this.rows; ++i) {
+            for (int k = 0; k < this.nonZeros[i]; ++k) {
+                final int pos = next[this.columnIndices[i][k]]++;
+                rowIndices[pos] = i;
+                columnValues[pos] = this.values[i][k];
+            }
+        }
+
+        this.rowIndices = rowIndices;
+        this.columnValues = columnValues;
+        this.columnStart = columnStart;
+    }
+
+    /**
+     * Ajoute à la ligne <code>target</code> la ligne <code>source</code> multipliée par <code>lambda</code>.
+     *
+     * @implNote Les deux lignes étant triées par colonne, elles sont fusionnées en une seule passe,
+     *           en <code>O(nnz(target) + nnz(source))</code>. Les cases qui deviennent nulles sont retirées.
+     *
+     * @param target la ligne modifiée
+     * @param source la ligne ajoutée
+     * @param lambda le coefficient multiplicateur, fini
+     */
+    @Override
+    public void addScaledRow(final int target, final int source, final double lambda) {
+        assert(target >= 0 && target < this.rowCount());
+        assert(source >= 0 && source < this.rowCount());
+
+        final int[] targetColumns = this.columnIndices[target];
+        final double[] targetValues = this.values[target];
+        final int targetCount = this.nonZeros[target];
+        final int[] sourceColumns = this.columnIndices[source];
+        final double[] sourceValues = this.values[source];
+        final int sourceCount = this.nonZeros[source];
+
+        final int capacity = Math.min(targetCount + sourceCount, this.columns);
+        final int[] columnIndices = new int[capacity];
+        final double[] rowValues = new double[capacity];
+
+        int t = 0, s = 0, count = 0;
+        while (t < targetCount || s < sourceCount) {
+            final int column;
+            final double value;
+            if (s == sourceCount || (t < targetCount && targetColumns[t] < sourceColumns[s])) {
+                column = targetColumns[t];
+                value = targetValues[t++];
+            } else if (t == targetCount || sourceColumns[s] < targetColumns[t]) {
+                column = sourceColumns[s];
+                value = lambda * sourceValues[s++];
+            } else {
+                column = targetColumns[t];
+                value = targetValues[t++] + lambda * sourceValues[s++];
+            }
+
+            if (value != 0.) {
+                columnIndices[count] = column;
+                rowValues[count] = value;
+                count++;
+            }
+        }
+
+        this.columnIndices[target] = columnIndices;
+        this.values[target] = rowValues;
+        this.nonZeros[target] = count;
+        this.columnStart = null;
+    }
+
+    /**
+     * Multiplie la ligne <code>i</code> par <code>lambda</code>.
+     *
+     * @implNote Seules les cases non nulles sont parcourues quand <code>lambda</code> est fini.
+     *
+     * @param i le numéro de la ligne
+     * @param lambda le coefficient multiplicateur
+     */
+    @Override
+    public void scaleRow(final int i, final double lambda) {
+        assert(i >= 0 && i < this.rowCount());
+
+        if (!Double.isFinite(lambda)) {
+            // 0 × ∞ n'est pas nul : toutes les cases sont concernées
+            Matrix.super.scaleRow(i, lambda);
+            return;
+        }
+        RowKernels.scale(lambda, this.values[i], 0, this.nonZeros[i]);
+
+        // les cases devenues nulles (lambda nul, ou sous-dépassement) sont retirées
+        int count = 0;
+        for (int k = 0; k < this.nonZeros[i]; ++k) {
+            if (this.values[i][k] != 0.) {
+                this.columnIndices[i][count] = this.columnIndices[i][k];
+                this.values[i][count] = this.values[i][k];
+                count++;
+            }
+        }
+        this.nonZeros[i] = count;
+        this.columnStart = null;
+    }
+
+    @Override
+    public void swapRows(final int i, final int j) {
+        assert(i >= 0 && i < this.rowCount());
+        assert(j >= 0 && j < this.rowCount());
+
+        final int[] columnIndices = this.columnIndices[i];
+        this.columnIndices[i] = this.columnIndices[j];
+        this.columnIndices[j] = columnIndices;
+
+        final double[] rowValues = this.values[i];
+        this.values[i] = this.values[j];
+        this.values[j] = rowValues;
+
+        final int count = this.nonZeros[i];
+        this.nonZeros[i] = this.nonZeros[j];
+        this.nonZeros[j] = count;
+
+        this.columnStart = null;
+    }
+
+    @Override
+    public boolean isRowNearZero(final int i, final int length, final double epsilon) {
+        assert(i >= 0 && i < this.rowCount());
+
+        for (int k = 0; k < this.nonZeros[i] && this.columnIndices[i][k] < length; ++k) {
+            if (Math.abs(this.values[i][k]) > epsilon)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Retourne le nombre total de cases non nulles dans la matrice.
+     *
+     * @return le nombre de cases non nulles
+     */
+    public int nonZeroCount() {
+        int count = 0;
+        for (int i = 0; i < this.rows; ++i) {
+            count += this.nonZeros[i];
+        }
+        return count;
+    }
+
+    @Override
+    public int rowCount() {
+        return this.rows;
+    }
+
+    @Override
+    public int columnCount() {
+        return this.rows == 0 ? 0 : this.columns;
+    }
+
+    @Override
+    public void appendRow(final double[] row) {
+        if (this.rows == 0)
+            this.columns = row.length;
+
+        if (this.rows == this.nonZeros.length) {
+            final int capacity = Math.max(2 * this.rows, 4);
+            this.columnIndices = Arrays.copyOf(this.columnIndices, capacity);
+            this.values = Arrays.copyOf(this.values, capacity);
+            this.nonZeros = Arrays.copyOf(this.nonZeros, capacity);
+            if (this.removed != null)
+                this.removed = Arrays.copyOf(this.removed, capacity);
+        }
+        this.rows++;
+
+        this.columnIndices[this.rows - 1] = NO_COLUMNS;
+        this.values[this.rows - 1] = NO_VALUES;
+        this.setRow(this.rows - 1, Arrays.copyOf(row, this.columns));
+    }
+
+    @Override
+    public void removeRow(final int i) {
+        assert(i >= 0 && i < this.rowCount());
+
+        System.arraycopy(this.columnIndices, i + 1, this.columnIndices, i, this.rows - i - 1);
+        System.arraycopy(this.values, i + 1, this.values, i, this.rows - i - 1);
+        System.arraycopy(this.nonZeros, i + 1, this.nonZeros, i, this.rows - i - 1);
+        if (this.removed != null) {
+            System.arraycopy(this.removed, i + 1, this.removed, i, this.rows - i - 1);
+            this.removed[this.rows - 1] = false;
+        }
+        this.rows--;
+
+        // on libère la ligne qui n'est plus utilisée
+        this.columnIndices[this.rows] = NO_COLUMNS;
+        this.values[this.rows] = NO_VALUES;
+        this.columnStart = null;
+    }
+
+    @Override
+    public void markRemoved(final int i) {
+        assert(i >= 0 && i < this.rowCount());
+
+        if (this.removed == null)
+            this.removed = new boolean[this.nonZeros.length];
+        this.removed[i] = true;
+    }
+
+    @Override
+    public boolean isRemoved(final int i) {
+        return this.removed != null && this.removed[i];
+    }
+
+    @Override
+    public void compact() {
+        if (this.removed == null)
+            return;
+
+        int kept = 0;
+        for (int i = 0; i < this.rows; ++i) {
+            if (this.removed[i])
+                continue;
+
+            this.columnIndices[kept] = this.columnIndices[i];
+            this.values[kept] = this.values[i];
+            this.nonZeros[kept] = this.nonZeros[i];
+            kept++;
+        }
+        for (int i = kept; i < this.rows; ++i) {
+            this.columnIndices[i] = NO_COLUMNS;
+            this.values[i] = NO_VALUES;
+        }
+
+        this.rows = kept;
+        this.removed = null;
+        this.columnStart = null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[ ");
+
+        for (int i = 0; i < this.rowCount(); ++i) {
+            builder.append(Arrays.toString(this.row(i))).append("\n  ");
+        }
+
+        return builder.append(" ]").toString();
+    }
+
+    @Override
+    public SparseMatrix newMatrix(final int rowCount, final int columnCount) {
+        return new SparseMatrix(rowCount, columnCount);
+    }
+
+    @SuppressWarnings("MethodDoesntCallSuperMethod")
+    @Override
+    public SparseMatrix clone() {
+        final SparseMatrix clone = new SparseMatrix(0, this.columns);
+        clone.rows = this.rows;
+        clone.columnIndices = new int[this.rows][];
+        clone.values = new double[this.rows][];
+        clone.nonZeros = Arrays.copyOf(this.nonZeros, this.rows);
+        clone.removed = this.removed == null ? null : Arrays.copyOf(this.removed, this.rows);
+
+        for (int i = 0; i < this.rows; ++i) {
+            clone.columnIndices[i] = Arrays.copyOf(this.columnIndices[i], this.nonZeros[i]);
+            clone.values[i] = Arrays.copyOf(this.values[i], this.nonZeros[i]);
+        }
+        return clone;
+    }
+}
@@ -4,7 +4,7 @@ import config.Config;
 import lpsolve.LpSolve;
 import model.LCSystem;
 import model.MLOProblem;
-import model.Matrix2;
+import model.Matrix;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -22,7 +22,7 @@ public class BorneSupInf {
      * Calcule la borne supérieure et inférieure des variables de la matrice
      */
     public void borneSupInf(){
-        final Matrix2 matrix = lcSystem.getMatrix();
+        final Matrix matrix = lcSystem.getMatrix();
 
         final int N = matrix.rowCount(); //Parcours des contraintes
         final int n = matrix.columnCount(); //Parcours des variables
@@ -46,8 +46,8 @@ public class BorneSupInf {
             if (Config.VERBOSE)
                 System.err.println("Borne sup/inf : contrainte " + i + " unitaire");
 
-            final int ineqty = lcSystem.getIneqTypes()[i];
-            final double value = matrix.get(i, n - 1);
+            final int ineqty = lcSystem.getIneqType(i);
+            final double value = matrix.getDouble(i, n - 1);
 
             if (Config.VERBOSE)
                 System.err.println("Borne sup/inf : " + (ineqty == MLOProblem.GE ? "⩾" : ineqty == MLOProblem.LE ? "⩽" : "=") + " " + value);
@@ -75,8 +75,8 @@ public class BorneSupInf {
             }
         }
 
-        final Matrix2 m = this.lcSystem.getMatrix().clone();
-        final int[] ineqs = this.lcSystem.getIneqTypes().clone();
+        final Matrix m = this.lcSystem.getMatrix().clone();
+        final int[] ineqs = this.lcSystem.getIneqTypes();
 
         if (Config.VERBOSE) {
             System.err.println("Borne sub/inf :\n" + this.lcSystem);
@@ -93,15 +93,15 @@ public class BorneSupInf {
 
             if (indiceEq != -1) {
                 lcSystem.getMatrix().appendRow(m.row(indiceEq));
-                lcSystem.appendIneqType(MLOProblem.EQ);
+                lcSystem.setLastIneqType(MLOProblem.EQ);
             } else {
                 if (indiceMax != -1) {
                     lcSystem.getMatrix().appendRow(m.row(indiceMax));
-                    lcSystem.appendIneqType(ineqs[indiceMax]);
+                    lcSystem.setLastIneqType(ineqs[indiceMax]);
                 }
                 if (indiceMin != -1) {
                     lcSystem.getMatrix().appendRow(m.row(indiceMin));
-                    lcSystem.appendIneqType(ineqs[indiceMin]);
+                    lcSystem.setLastIneqType(ineqs[indiceMin]);
                 }
             }
         }
@@ -115,11 +115,7 @@ public class BorneSupInf {
      * @return false si un des premiers éléments est différent de 0
      */
     private boolean born(int L, int n){
-        for(int j = 0; j < n - 2; j++){
-            if(Math.abs(lcSystem.getMatrix().get(L,j)) > DELTA)
-                return false;
-        }
-        return true;
+        return lcSystem.getMatrix().isRowNearZero(L, n - 2, DELTA);
     }
 
     @Override
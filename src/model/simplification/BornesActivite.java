@@ -0,0 +1,290 @@
+package model.simplification;
+
+import config.Config;
+import model.LCSystem;
+import model.MLOProblem;
+import model.Matrix;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Retire les contraintes qu'on peut prouver redondantes avec les seules bornes des variables, sans appeler lp_solve.
+ *
+ * @implNote Les variables sont libres au départ, comme dans les problèmes construits par {@link MLOProblem}.
+ *           Leurs bornes sont d'abord resserrées à partir des contraintes (comme {@link BorneSupInf} avec les contraintes à
+ *           une seule variable, mais aussi avec les autres contraintes). Une contrainte <code>a·x ⩽ b</code> est
+ *           ensuite redondante si son activité maximale sur ces bornes ne dépasse pas <code>b</code>.
+ *
+ *           Chaque borne retient les contraintes qui ont servi à l'obtenir. Une contrainte n'est retirée que si elle
+ *           n'a pas servi à calculer les bornes qui la rendent redondante, et si aucune de ces contraintes n'a
+ *           déjà été retirée ; ces contraintes ne peuvent ensuite plus être retirées. Ainsi, chaque contrainte retirée
+ *           est impliquée par des contraintes gardées.
+ */
+public class BornesActivite {
+    private final static double DELTA = 0.00000001;
+    /**
+     * Le nombre maximum de passes de resserrement des bornes.
+     */
+    private final static int NB_PASSES = 10;
+
+    private final LCSystem lcSystem;
+
+    private double[] borneInf;
+    private double[] borneSup;
+    /**
+     * Les contraintes ayant servi à calculer chaque borne.
+     */
+    private BitSet[] origineInf;
+    private BitSet[] origineSup;
+
+    /**
+     * Les colonnes et coefficients non nuls de chaque contrainte, sans la partie droite.
+     */
+    private int[][] colonnes;
+    private double[][] coefficients;
+
+    public BornesActivite(LCSystem lcSystem){
+        this.lcSystem = lcSystem;
+    }
+
+    /**
+     * Retire du système les contraintes redondantes d'après les bornes des variables.
+     *
+     * @return le nombre d'appels à lp_solve évités par {@link Daalmans} (un par inégalité retirée, deux par égalité)
+     */
+    public int retirerRedondances(){
+        final Matrix matrix = lcSystem.getMatrix();
+        final int N = matrix.rowCount();
+        final int b = matrix.columnCount() - 1;
+
+        if (b < 1 || N == 0)
+            return 0;
+
+        lireContraintes(matrix);
+
+        if (!calculerBornes()) {
+            if (Config.VERBOSE)
+                System.err.println("Bornes d'activité : système infaisable, aucune contrainte retirée");
+            return 0;
+        }
+
+        final BitSet retirees = new BitSet(N);
+        final BitSet bloquees = new BitSet(N);
+        int nbAppelsEvites = 0;
+
+        // même ordre que Daalmans : en partant de la fin
+        for (int i = N - 1; i >= 0; --i) {
+            if (bloquees.get(i))
+                continue;
+
+            final int ineqty = lcSystem.getIneqType(i);
+            final double rhs = matrix.rhs(i);
+            final BitSet origine = new BitSet(N);
+
+            boolean redondante = true;
+            if (ineqty == MLOProblem.LE || ineqty == MLOProblem.EQ)
+                redondante = activite(i, true, origine) <= rhs + DELTA * Math.max(1., Math.abs(rhs));
+            if (redondante && (ineqty == MLOProblem.GE || ineqty == MLOProblem.EQ))
+                redondante = activite(i, false, origine) >= rhs - DELTA * Math.max(1., Math.abs(rhs));
+
+            if (!redondante || origine.get(i) || origine.intersects(retirees))
+                continue;
+
+            if (Config.VERBOSE)
+                System.err.println("Bornes d'activité : contrainte " + i + " redondante (d'après " + origine + ")");
+
+            retirees.set(i);
+            bloquees.or(origine);
+            nbAppelsEvites += ineqty == MLOProblem.EQ ? 2 : 1;
+        }
+
+        for (int i = retirees.nextSetBit(0); i >= 0; i = retirees.nextSetBit(i + 1)) {
+            lcSystem.markConstraintRemoved(i);
+        }
+        lcSystem.compact();
+
+        if (Config.VERBOSE)
+            System.err.println("Bornes d'activité : " + retirees.cardinality() + " contrainte(s) retirée(s), " + nbAppelsEvites + " appel(s) à lp_solve évité(s)");
+
+        return nbAppelsEvites;
+    }
+
+    /**
+     * Retourne la borne inférieure calculée pour une variable.
+     *
+     * @implNote Les bornes ne sont calculées que par {@link #retirerRedondances()}.
+     */
+    public double getBorneInf(final int j){
+        return borneInf[j];
+    }
+
+    /**
+     * Retourne la borne supérieure calculée pour une variable.
+     *
+     * @implNote Les bornes ne sont calculées que par {@link #retirerRedondances()}.
+     */
+    public double getBorneSup(final int j){
+        return borneSup[j];
+    }
+
+    private void lireContraintes(final Matrix matrix){
+        final int N = matrix.rowCount();
+        final int n = matrix.columnCount();
+        final int[] cols = new int[n];
+        final double[] values = new double[n];
+
+        colonnes = new int[N][];
+        coefficients = new double[N][];
+        for (int i = 0; i < N; ++i) {
+            final int nbVars = matrix.lhsNonZeros(i, cols, values);
+            colonnes[i] = Arrays.copyOf(cols, nbVars);
+            coefficients[i] = Arrays.copyOf(values, nbVars);
+        }
+    }
+
+    /**
+     * Resserre les bornes des variables, passe après passe, tant qu'elles changent.
+     *
+     * @return <code>false</code> si une variable n'a plus aucune valeur possible
+     */
+    private boolean calculerBornes(){
+        final int nbVars = lcSystem.getMatrix().columnCount() - 1;
+
+        borneInf = new double[nbVars];
+        borneSup = new double[nbVars];
+        Arrays.fill(borneInf, Double.NEGATIVE_INFINITY);
+        Arrays.fill(borneSup, Double.POSITIVE_INFINITY);
+        origineInf = new BitSet[nbVars];
+        origineSup = new BitSet[nbVars];
+        for (int j = 0; j < nbVars; ++j) {
+            origineInf[j] = new BitSet();
+            origineSup[j] = new BitSet();
+        }
+
+        for (int passe = 0; passe < NB_PASSES; ++passe) {
+            boolean change = false;
+
+            for (int i = 0; i < colonnes.length; ++i) {
+                final int ineqty = lcSystem.getIneqType(i);
+                final double rhs = lcSystem.getMatrix().rhs(i);
+
+                if (ineqty == MLOProblem.LE || ineqty == MLOProblem.EQ)
+                    change |= resserrer(i, 1., rhs);
+                if (ineqty == MLOProblem.GE || ineqty == MLOProblem.EQ)
+                    change |= resserrer(i, -1., -rhs);
+            }
+
+            for (int j = 0; j < nbVars; ++j) {
+                if (borneInf[j] > borneSup[j] + DELTA * Math.max(1., Math.abs(borneSup[j])))
+                    return false;
+            }
+
+            if (!change)
+                break;
+        }
+
+        return true;
+    }
+
+    /**
+     * Resserre les bornes des variables de la contrainte <code>i</code>, lue comme <code>signe·a·x ⩽ rhs</code>.
+     *
+     * @return <code>true</code> si au moins une borne a changé
+     */
+    private boolean resserrer(final int i, final double signe, final double rhs){
+        final int[] cols = colonnes[i];
+        final double[] coeffs = coefficients[i];
+
+        // activité minimale de la contrainte, sans les termes infinis, qu'on compte à part
+        double activiteMin = 0.;
+        int nbInfinis = 0;
+        int infini = -1;
+        for (int k = 0; k < cols.length; ++k) {
+            final double terme = terme(signe * coeffs[k], cols[k], false);
+            if (Double.isInfinite(terme)) {
+                nbInfinis++;
+                infini = k;
+            } else {
+                activiteMin += terme;
+            }
+        }
+
+        if (nbInfinis > 1)
+            return false;
+
+        boolean change = false;
+        for (int k = 0; k < cols.length; ++k) {
+            if (nbInfinis == 1 && k != infini)
+                continue;
+
+            final int j = cols[k];
+            final double a = signe * coeffs[k];
+            final double reste = nbInfinis == 1 ? activiteMin : activiteMin - terme(a, j, false);
+            final double borne = (rhs - reste) / a;
+            // la borne est légèrement relâchée pour ne pas souffrir des erreurs d'arrondi
+            final double marge = DELTA * Math.max(1., Math.abs(borne));
+
+            if (a > 0 && borne + marge < borneSup[j] - marge) {
+                borneSup[j] = borne + marge;
+                origineSup[j] = origine(i, signe, k);
+                change = true;
+            } else if (a < 0 && borne - marge > borneInf[j] + marge) {
+                borneInf[j] = borne - marge;
+                origineInf[j] = origine(i, signe, k);
+                change = true;
+            }
+        }
+
+        return change;
+    }
+
+    /**
+     * Retourne la contribution minimale (ou maximale) de <code>a·x_j</code> sur les bornes de <code>x_j</code>.
+     */
+    private double terme(final double a, final int j, final boolean max){
+        final double borne = (a > 0) == max ? borneSup[j] : borneInf[j];
+        return a * borne;
+    }
+
+    /**
+     * Retourne les contraintes ayant servi à borner la variable de la colonne <code>k</code> avec la contrainte
+     * <code>i</code> : la contrainte elle-même et celles des bornes des autres variables.
+     */
+    private BitSet origine(final int i, final double signe, final int k){
+        final BitSet origine = new BitSet();
+        origine.set(i);
+
+        final int[] cols = colonnes[i];
+        final double[] coeffs = coefficients[i];
+        for (int l = 0; l < cols.length; ++l) {
+            if (l != k)
+                origine.or(signe * coeffs[l] > 0 ? origineInf[cols[l]] : origineSup[cols[l]]);
+        }
+        return origine;
+    }
+
+    /**
+     * Calcule l'activité maximale (ou minimale) de la contrainte <code>i</code> sur les bornes des variables, et
+     * ajoute à <code>origine</code> les contraintes ayant servi à calculer ces bornes.
+     */
+    private double activite(final int i, final boolean max, final BitSet origine){
+        final int[] cols = colonnes[i];
+        final double[] coeffs = coefficients[i];
+
+        double activite = 0.;
+        for (int k = 0; k < cols.length; ++k) {
+            final double a = coeffs[k];
+            activite += terme(a, cols[k], max);
+            origine.or((a > 0) == max ? origineSup[cols[k]] : origineInf[cols[k]]);
+        }
+        return activite;
+    }
+
+    @Override
+    public String toString() {
+        return "BornesActivite{" +
+                "\n" + lcSystem +
+                '}';
+    }
+}
@@ -0,0 +1,93 @@
+package model.simplification;
+
+import model.MLOProblem;
+
+import java.time.Duration;
+
+/**
+ * Le temps accordé à une simplification, partagé entre ses appels à lp_solve.
+ *
+ * @implNote Le budget est une échéance fixe : il peut être partagé entre plusieurs simplifications (voir
+ *           {@link ParBlocs}) ou plusieurs threads. Le délai de chaque résolution est le temps restant divisé par le
+ *           nombre de résolutions encore prévues par l'appelant, arrondi à la seconde supérieure (lp_solve ne compte
+ *           qu'en secondes entières) : une résolution peut donc dépasser l'échéance d'au plus une seconde.
+ */
+public final class Budget {
+    private static final Budget ILLIMITE = new Budget(Long.MAX_VALUE);
+
+    /**
+     * L'échéance, en temps {@link System#nanoTime()}, ou {@link Long#MAX_VALUE} s'il n'y en a pas.
+     */
+    private final long echeance;
+
+    private Budget(final long echeance) {
+        this.echeance = echeance;
+    }
+
+    /**
+     * Retourne un budget sans échéance : chaque résolution a le délai par défaut de lp_solve ({@link MLOProblem#TIMEOUT}).
+     */
+    public static Budget illimite() {
+        return ILLIMITE;
+    }
+
+    /**
+     * Crée un budget qui commence maintenant.
+     *
+     * @param duree le temps accordé
+     */
+    public static Budget de(final Duration duree) {
+        final long maintenant = System.nanoTime();
+        if (duree.isNegative())
+            return new Budget(maintenant);
+
+        try {
+            return new Budget(Math.addExact(maintenant, duree.toNanos()));
+        } catch (ArithmeticException e) {
+            // durée trop longue pour être comptée en nanosecondes : l'échéance ne sera jamais atteinte
+            return ILLIMITE;
+        }
+    }
+
+    public boolean isIllimite() {
+        return this.echeance == Long.MAX_VALUE;
+    }
+
+    /**
+     * Vérifie si l'échéance est passée : plus aucune résolution ne doit être lancée.
+     */
+    public boolean isEpuise() {
+        return !this.isIllimite() && System.nanoTime() - this.echeance >= 0;
+    }
+
+    /**
+     * Retourne le temps restant avant l'échéance, ou <code>null</code> s'il n'y en a pas.
+     */
+    public Duration getRestant() {
+        if (this.isIllimite())
+            return null;
+
+        return Duration.ofNanos(Math.max(0, this.echeance - System.nanoTime()));
+    }
+
+    /**
+     * Calcule le délai de la prochaine résolution.
+     *
+     * @param nbResolutions le nombre de résolutions encore prévues, celle-ci comprise
+     * @return le délai en secondes, au moins <code>1</code>
+     */
+    public long timeout(final int nbResolutions) {
+        if (this.isIllimite())
+            return MLOProblem.TIMEOUT;
+
+        final long restant = Math.max(0, this.echeance - System.nanoTime());
+        final long part = restant / Math.max(1, nbResolutions);
+
+        return Math.max(1, (part + 999_999_999) / 1_000_000_000);
+    }
+
+    @Override
+    public String toString() {
+        return this.isIllimite() ? "Budget illimité" : "Budget : " + this.getRestant().toMillis() + " ms restantes";
+    }
+}
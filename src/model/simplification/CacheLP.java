@@ -0,0 +1,229 @@
+package model.simplification;
+
+import model.LCSystem;
+import model.MLOProblem;
+import model.Matrix;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Garde les résultats des problèmes lp_solve déjà résolus, pour ne pas les résoudre à nouveau dans {@link Daalmans}
+ * (voir {@link Daalmans#withCache(CacheLP)}).
+ *
+ * @implNote Un problème est identifié par l'empreinte SHA-256 de son contenu : la fonction objectif, le sens de
+ *           l'optimisation, les coefficients non nuls de chaque contrainte (partie droite comprise), les types des
+ *           contraintes et ceux des variables. Deux systèmes égaux ont la même empreinte quelle que soit la
+ *           représentation de leur matrice (voir {@link Matrix#rowNonZeros(int, int[], double[])}).
+ *
+ *           Au plus {@link #CAPACITE} résultats sont gardés par défaut : quand le cache est plein, le résultat utilisé
+ *           le moins récemment est oublié.
+ *
+ *           Un même cache peut être partagé entre plusieurs simplifications, y compris sur des systèmes différents :
+ *           les méthodes sont synchronisées.
+ */
+public class CacheLP {
+    /**
+     * Le nombre de résultats gardés par défaut.
+     */
+    private final static int CAPACITE = 4096;
+
+    private final Map<Cle, Resultat> resultats;
+
+    private long nbSucces = 0;
+    private long nbDefauts = 0;
+
+    public CacheLP() {
+        this(CAPACITE);
+    }
+
+    /**
+     * @param capacite le nombre de résultats gardés
+     */
+    public CacheLP(final int capacite) {
+        if (capacite < 1)
+            throw new IllegalArgumentException("La capacité doit être strictement positive");
+
+        // dans l'ordre des accès : le premier est le moins récemment utilisé
+        this.resultats = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Cle, Resultat> eldest) {
+                return this.size() > capacite;
+            }
+        };
+    }
+
+    /**
+     * Calcule l'identifiant d'un problème : un système, une fonction objectif et un sens d'optimisation.
+     *
+     * @param system le système chargé dans le problème
+     * @param isMax <code>true</code> pour une maximisation
+     * @param objective les coefficients de la fonction objectif, un par variable du système
+     */
+    public static Cle cle(final LCSystem system, final boolean isMax, final double[] objective) {
+        final Matrix matrix = system.getMatrix();
+        final int N = matrix.rowCount();
+        final int n = matrix.columnCount();
+
+        final MessageDigest digest = sha256();
+        final ByteBuffer buffer = ByteBuffer.allocate(Math.max(3 * Integer.BYTES, n * (Integer.BYTES + Double.BYTES)));
+
+        buffer.putInt(isMax ? 1 : 0).putInt(N).putInt(n);
+        digest.update(buffer.array(), 0, buffer.position());
+
+        buffer.clear();
+        for (final double c : objective) {
+            // -0 et 0 donnent le même problème
+            buffer.putDouble(c + 0.);
+        }
+        digest.update(buffer.array(), 0, buffer.position());
+
+        final int[] cols = new int[n];
+        final double[] values = new double[n];
+        for (int i = 0; i < N; ++i) {
+            final int count = matrix.rowNonZeros(i, cols, values);
+
+            buffer.clear();
+            for (int k = 0; k < count; ++k) {
+                buffer.putInt(cols[k]).putDouble(values[k]);
+            }
+            digest.update(buffer.array(), 0, buffer.position());
+
+            // le nombre de coefficients sépare les lignes, et le type termine chacune
+            buffer.clear();
+            buffer.putInt(count).putInt(system.getIneqType(i));
+            digest.update(buffer.array(), 0, buffer.position());
+        }
+
+        for (final MLOProblem.VarType type : system.getVarTypes()) {
+            digest.update((byte) type.ordinal());
+        }
+
+        return new Cle(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // toute implantation de Java doit fournir SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Retourne le résultat d'un problème déjà résolu.
+     *
+     * @return le résultat, ou <code>null</code> si le problème n'est pas dans le cache
+     */
+    public synchronized Resultat get(final Cle cle) {
+        final Resultat resultat = this.resultats.get(cle);
+        if (resultat == null)
+            this.nbDefauts++;
+        else
+            this.nbSucces++;
+
+        return resultat;
+    }
+
+    /**
+     * Garde le résultat d'un problème résolu jusqu'au bout (ni délai dépassé, ni erreur).
+     */
+    public synchronized void put(final Cle cle, final Resultat resultat) {
+        this.resultats.put(cle, resultat);
+    }
+
+    /**
+     * Retourne le nombre de problèmes trouvés dans le cache.
+     */
+    public synchronized long getNbSucces() {
+        return this.nbSucces;
+    }
+
+    /**
+     * Retourne le nombre de problèmes cherchés sans être trouvés dans le cache.
+     */
+    public synchronized long getNbDefauts() {
+        return this.nbDefauts;
+    }
+
+    /**
+     * Retourne le nombre de résultats gardés.
+     */
+    public synchronized int size() {
+        return this.resultats.size();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "Cache LP : " + this.resultats.size() + " résultat(s), " + this.nbSucces + " succès, " + this.nbDefauts + " défaut(s)";
+    }
+
+    /**
+     * L'empreinte d'un problème (voir {@link #cle(LCSystem, boolean, double[])}).
+     */
+    public static final class Cle {
+        private final byte[] empreinte;
+        private final int hash;
+
+        private Cle(final byte[] empreinte) {
+            this.empreinte = empreinte;
+            this.hash = Arrays.hashCode(empreinte);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Cle))
+                return false;
+
+            return Arrays.equals(this.empreinte, ((Cle) o).empreinte);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * Le résultat d'une résolution.
+     */
+    public static final class Resultat {
+        /**
+         * La valeur de la fonction objectif.
+         */
+        public final double valeur;
+        /**
+         * <code>true</code> si le problème est non borné.
+         */
+        public final boolean infini;
+        /**
+         * <code>true</code> si le problème a des solutions.
+         */
+        public final boolean faisable;
+        /**
+         * La solution trouvée si le problème est optimal, <code>null</code> sinon.
+         */
+        private final double[] solution;
+
+        public Resultat(final double valeur, final boolean infini, final boolean faisable, final double[] solution) {
+            this.valeur = valeur;
+            this.infini = infini;
+            this.faisable = faisable;
+            this.solution = solution == null ? null : solution.clone();
+        }
+
+        /**
+         * Retourne une copie de la solution trouvée, ou <code>null</code> si le problème n'est pas optimal.
+         */
+        public double[] getSolution() {
+            return this.solution == null ? null : this.solution.clone();
+        }
+    }
+}
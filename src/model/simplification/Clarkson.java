@@ -0,0 +1,292 @@
+package model.simplification;
+
+import config.Config;
+import exceptions.problems.LigneInvalideException;
+import exceptions.problems.NonResoluException;
+import exceptions.problems.ProblemeSansVariablesException;
+import exceptions.problems.TailleLigneInvalideException;
+import exceptions.problems.TypeInegaliteInvalideException;
+import lpsolve.LpSolveException;
+import model.LCSystem;
+import model.MLOProblem;
+import model.Matrix;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static model.MLOProblem.*;
+
+/**
+ * Retire les contraintes redondantes avec l'algorithme de Clarkson, dont le coût dépend du nombre de contraintes
+ * gardées plutôt que du nombre de contraintes du système.
+ *
+ * @implNote Algorithme :
+ *           <ul>
+ *               <li><code>z</code> = un point intérieur du système <code>S</code></li>
+ *               <li><code>R</code> = les égalités de <code>S</code></li>
+ *               <li>Pour chaque inégalité <code>c</code> de <code>S</code>, tant que <code>c</code> n'est pas dans <code>R</code></li>
+ *               <li>&emsp;Si <code>EST-SAT(R U {not c})</code> = <code>faux</code></li>
+ *               <li>&emsp;&emsp;<code>S</code> = <code>S \ {c}</code></li>
+ *               <li>&emsp;Sinon, avec <code>x</code> la solution trouvée</li>
+ *               <li>&emsp;&emsp;<code>R</code> = <code>R U {c'}</code>, où <code>c'</code> est la première contrainte
+ *                   de <code>S</code> traversée par le segment <code>[z, x]</code></li>
+ *           </ul>
+ *           <code>R</code> ne contient que des contraintes non redondantes de <code>S</code> : chaque problème résolu
+ *           a au plus autant de contraintes que le système simplifié, et il y a au plus un problème par contrainte
+ *           retirée plus deux par contrainte gardée. La décision de retirer une contrainte est la même que dans
+ *           {@link Daalmans} (<code>not c</code> est relâchée de la même façon).
+ *
+ *           Les problèmes sont résolus sans tenir compte des types des variables : une contrainte redondante pour le
+ *           problème en nombres réels l'est aussi pour le problème en nombres entiers.
+ *
+ *           Sans point intérieur (quand des inégalités forment en fait une égalité), la recherche des contraintes
+ *           redondantes de {@link Daalmans} est utilisée.
+ */
+public class Clarkson extends Simplification {
+    private final static double DELTA = 0.00000001;
+    private final static double EPSILON = 0.0001;
+
+    /**
+     * Les colonnes et coefficients non nuls de chaque contrainte, sans la partie droite.
+     */
+    private int[][] colonnes;
+    private double[][] coefficients;
+    private double[] rhs;
+
+    /**
+     * Initialise l'algorithme de Clarkson avec un système de contraintes linéaires.
+     *
+     * @param originalSystem le système de contraintes initial
+     * @implNote Attention : ce système sera modifié directement par l'algorithme.
+     */
+    public Clarkson(final LCSystem originalSystem) {
+        super(originalSystem);
+    }
+
+    /**
+     * Fais tourner l'algorithme de Clarkson sur le système donné au constructeur.
+     */
+    public void run() {
+        try {
+            // les contraintes parallèles sont retirées sans appeler lp_solve
+            new LignesParalleles(this.system).run();
+            this.removeRedundantConstraints();
+        } catch (LpSolveException | LigneInvalideException | NonResoluException | TypeInegaliteInvalideException | TailleLigneInvalideException | ProblemeSansVariablesException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Retire toutes les contraintes redondantes du système.
+     *
+     * @implNote Les contraintes ne sont retirées du système qu'à la fin : en cas d'erreur de lp_solve, le système
+     *           n'est pas modifié.
+     */
+    public void removeRedundantConstraints() throws LpSolveException, LigneInvalideException, NonResoluException, TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
+        final Matrix matrix = this.system.getMatrix();
+        final int nbConstraints = matrix.rowCount();
+        final int nbVars = matrix.columnCount() - 1;
+
+        if (nbConstraints < 2 || nbVars < 1)
+            return;
+
+        this.lireContraintes(matrix);
+
+        final double[] interieur = this.pointInterieur(nbVars);
+        if (interieur == null) {
+            if (Config.VERBOSE) System.err.println("Clarkson : pas de point intérieur, recherche de Daalmans");
+
+            this.partager(new Daalmans(this.system)).withWarmStart(true).removeRedundantConstraints();
+            return;
+        }
+
+        // R : les contraintes dont on sait qu'elles ne sont pas redondantes
+        final BitSet gardees = new BitSet(nbConstraints);
+        final BitSet retirees = new BitSet(nbConstraints);
+        // gardées sans savoir si elles sont redondantes (temps écoulé ou délai dépassé)
+        final BitSet nonVerifiees = new BitSet(nbConstraints);
+        int nbAppels = 0;
+
+        try (MLOProblem pb = new MLOProblem(nbVars)) {
+            for (int i = 0; i < nbConstraints; ++i) {
+                if (this.system.getIneqType(i) == EQ) {
+                    gardees.set(i);
+                    pb.withConstraint(matrix.rowView(i), EQ);
+                }
+            }
+
+            // même ordre que Daalmans : en partant de la fin
+            for (int c = nbConstraints - 1; c >= 0; --c) {
+                while (!gardees.get(c)) {
+                    if (Config.VERBOSE) System.err.println("Contrainte " + c + " redondante ?");
+
+                    // garder une contrainte est toujours correct, et R reste un sous-ensemble de S
+                    if (this.budget.isEpuise()) {
+                        gardees.set(c);
+                        nonVerifiees.set(c);
+                        break;
+                    }
+
+                    // not c est ajoutée le temps d'une résolution, à la fin du problème
+                    final int ineqType = this.system.getIneqType(c);
+                    final int last = pb.getNbConstraints();
+                    pb.withConstraint(matrix.rowView(c), ineqType == LE ? GE : LE)
+                            .withConstraintRHS(last, ineqType == LE ? this.rhs[c] + EPSILON : this.rhs[c] - EPSILON);
+
+                    // il reste au plus une résolution par contrainte à tester, plus une par contrainte gardée
+                    pb.withTimeout(this.budget.timeout(c + 1));
+                    pb.solve();
+                    nbAppels++;
+
+                    final boolean realisable = !pb.isInfeasable();
+                    final double[] point = realisable && pb.isOptimal() ? pb.getSolution() : null;
+                    pb.removeConstraint(last);
+
+                    if (!realisable) {
+                        if (Config.VERBOSE) System.err.println("  = Redondante ? true");
+
+                        retirees.set(c);
+                        break;
+                    }
+
+                    // sans solution exploitable (délai dépassé), la contrainte est gardée
+                    if (point == null)
+                        nonVerifiees.set(c);
+
+                    final int touchee = point == null ? -1 : this.premiereTouchee(interieur, point, gardees, retirees);
+                    final int nouvelle = touchee == -1 ? c : touchee;
+
+                    if (Config.VERBOSE) System.err.println("  = Contrainte " + nouvelle + " non redondante");
+
+                    gardees.set(nouvelle);
+                    pb.withConstraint(matrix.rowView(nouvelle), this.system.getIneqType(nouvelle));
+                }
+            }
+        }
+
+        for (int i = retirees.nextSetBit(0); i >= 0; i = retirees.nextSetBit(i + 1)) {
+            this.system.markConstraintRemoved(i);
+        }
+        this.system.compact();
+        this.rapport.lignesNonVerifiees(nonVerifiees, retirees);
+
+        if (Config.VERBOSE)
+            System.err.println("Clarkson : " + retirees.cardinality() + " contrainte(s) retirée(s) en " + nbAppels + " appel(s) à lp_solve");
+    }
+
+    private void lireContraintes(final Matrix matrix) {
+        final int N = matrix.rowCount();
+        final int n = matrix.columnCount();
+        final int[] cols = new int[n];
+        final double[] values = new double[n];
+
+        this.colonnes = new int[N][];
+        this.coefficients = new double[N][];
+        this.rhs = new double[N];
+        for (int i = 0; i < N; ++i) {
+            final int nbVars = matrix.lhsNonZeros(i, cols, values);
+            this.colonnes[i] = Arrays.copyOf(cols, nbVars);
+            this.coefficients[i] = Arrays.copyOf(values, nbVars);
+            this.rhs[i] = matrix.rhs(i);
+        }
+    }
+
+    /**
+     * Cherche un point qui vérifie les égalités et strictement toutes les inégalités du système.
+     *
+     * @implNote Le point est le centre de la plus grande boule (de rayon au plus 1) contenue dans le système
+     *           (restreint aux égalités) : <code>max t</code> sous <code>a·x + t·|a| ⩽ b</code> pour chaque inégalité.
+     *
+     * @return le point, ou <code>null</code> s'il n'y en a pas (ou si le temps est écoulé)
+     */
+    private double[] pointInterieur(final int nbVars) throws LpSolveException, NonResoluException, TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
+        if (this.budget.isEpuise())
+            return null;
+
+        // lp_solve ignore la case 0 ; la dernière variable est t
+        final int t = nbVars + 1;
+
+        try (MLOProblem pb = new MLOProblem(nbVars + 1)) {
+            final double[] row = new double[nbVars + 2];
+
+            for (int i = 0; i < this.colonnes.length; ++i) {
+                final int ineqType = this.system.getIneqType(i);
+
+                Arrays.fill(row, 0.);
+                double norme = 0.;
+                for (int k = 0; k < this.colonnes[i].length; ++k) {
+                    row[this.colonnes[i][k] + 1] = this.coefficients[i][k];
+                    norme += this.coefficients[i][k] * this.coefficients[i][k];
+                }
+                if (ineqType != EQ)
+                    row[t] = ineqType == LE ? Math.sqrt(norme) : -Math.sqrt(norme);
+
+                pb.withConstraint(row, ineqType, this.rhs[i]);
+            }
+
+            Arrays.fill(row, 0.);
+            row[t] = 1.;
+            pb.withConstraint(row, LE, 1.);
+
+            pb.withObjective(row).max();
+            pb.withTimeout(this.budget.timeout(this.colonnes.length + 1));
+            pb.solve();
+
+            if (!pb.isOptimal())
+                return null;
+
+            final double[] solution = pb.getSolution();
+            if (solution[nbVars] <= DELTA)
+                return null;
+
+            return Arrays.copyOf(solution, nbVars);
+        }
+    }
+
+    /**
+     * Retourne la première contrainte traversée par le segment allant du point intérieur <code>z</code> au point
+     * <code>x</code>, parmi les inégalités ni gardées ni retirées que <code>x</code> viole.
+     *
+     * @return l'indice de la contrainte, ou <code>-1</code> si <code>x</code> n'en viole aucune
+     */
+    private int premiereTouchee(final double[] z, final double[] x, final BitSet gardees, final BitSet retirees) {
+        int premiere = -1;
+        double tMin = Double.POSITIVE_INFINITY;
+
+        for (int k = 0; k < this.colonnes.length; ++k) {
+            final int ineqType = this.system.getIneqType(k);
+            if (ineqType == EQ || gardees.get(k) || retirees.get(k))
+                continue;
+
+            final double az = this.activite(k, z);
+            final double ax = this.activite(k, x);
+            final double ecart = ineqType == LE ? ax - this.rhs[k] : this.rhs[k] - ax;
+            if (ecart <= DELTA * Math.max(1., Math.abs(this.rhs[k])))
+                continue;
+
+            // z vérifie strictement la contrainte et x la viole : 0 < t < 1
+            final double t = (this.rhs[k] - az) / (ax - az);
+            if (t < tMin) {
+                tMin = t;
+                premiere = k;
+            }
+        }
+
+        return premiere;
+    }
+
+    private double activite(final int i, final double[] x) {
+        double activite = 0.;
+        for (int k = 0; k < this.colonnes[i].length; ++k) {
+            activite += this.coefficients[i][k] * x[this.colonnes[i][k]];
+        }
+        return activite;
+    }
+
+    @Override
+    public String toString() {
+        return "------ Clarkson ------" +
+                "\n" + system +
+                ' ';
+    }
+}
@@ -1,6 +1,7 @@
 package model.simplification;
 
 import config.Config;
+import exceptions.problems.LigneInvalideException;
 import exceptions.problems.NonResoluException;
 import exceptions.problems.ProblemeSansVariablesException;
 import exceptions.problems.TailleLigneInvalideException;
@@ -8,10 +9,17 @@ import exceptions.problems.TypeInegaliteInvalideException;
 import lpsolve.LpSolveException;
 import model.LCSystem;
 import model.MLOProblem;
+import model.Matrix;
 import model.Matrix2;
 import utils.BooleanHolder;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static model.MLOProblem.*;
 
@@ -19,6 +27,35 @@ public class Daalmans extends Simplification {
     private final static double DELTA = 0.00000001;
     private final static double EPSILON = 0.0001;
 
+    /**
+     * <code>true</code> pour charger le système une seule fois dans lp_solve pendant la recherche des variables fixes,
+     * puis une seule fois pendant la recherche des contraintes redondantes (voir {@link #withWarmStart(boolean)}).
+     */
+    private boolean warmStart = false;
+    /**
+     * Le pool sur lequel répartir les appels à lp_solve, ou <code>null</code> pour tout faire séquentiellement
+     * (voir {@link #withParallelism(ForkJoinPool)}).
+     */
+    private ForkJoinPool pool = null;
+    /**
+     * Les résultats des problèmes déjà résolus, ou <code>null</code> (voir {@link #withCache(CacheLP)}).
+     */
+    private CacheLP cache = null;
+    /**
+     * Les solutions déjà trouvées par lp_solve, qui permettent d'éviter certaines résolutions.
+     */
+    private final Temoins temoins;
+    /**
+     * Le nombre de résolutions encore prévues par la recherche en cours, entre lesquelles le {@link #budget} est
+     * partagé.
+     */
+    private final AtomicInteger resolutionsPrevues = new AtomicInteger();
+    /**
+     * La base lp_solve de la dernière copie du système trouvée faisable par {@link #isFeasible(LCSystem, int)}, avec
+     * les indices de contraintes du système, ou <code>null</code>.
+     */
+    private int[] derniereBase = null;
+
     /**
      * Initialise les algorithmes de Daalmans avec un système de contraintes linéaires.
      *
@@ -27,6 +64,59 @@ public class Daalmans extends Simplification {
      */
     public Daalmans(final LCSystem originalSystem) {
         super(originalSystem);
+        this.temoins = new Temoins(originalSystem.getMatrix().columnCount() - 1);
+    }
+
+    /**
+     * Active ou désactive le chargement unique du système dans lp_solve pendant la recherche des variables fixes et
+     * pendant celle des contraintes redondantes.
+     *
+     * @implNote Au lieu de construire deux nouveaux problèmes lp_solve par variable, le système est chargé une fois,
+     *           puis seule la fonction objectif change entre deux résolutions, qui repartent de la base précédente.
+     *           De même, au lieu de copier le système pour chaque contrainte testée, la contrainte est inversée
+     *           directement dans le problème chargé (type et partie droite), puis remise en place ou retirée.
+     *
+     * @param warmStart <code>true</code> pour n'utiliser qu'un seul problème lp_solve
+     * @return cette instance
+     */
+    public Daalmans withWarmStart(final boolean warmStart) {
+        this.warmStart = warmStart;
+        return this;
+    }
+
+    /**
+     * Active ou désactive la répartition des recherches de variables fixes et de contraintes redondantes sur un pool.
+     *
+     * @implNote Les handles lp_solve ne peuvent pas être partagés entre plusieurs threads : chaque tâche charge sa
+     *           propre copie du système dans lp_solve, et teste une partie des variables ou des contraintes.
+     *           Les décisions sont ensuite appliquées séquentiellement, dans le même ordre que sans parallélisme,
+     *           pour que le résultat ne dépende pas de l'ordre d'exécution des tâches (voir
+     *           {@link #removeRedundantConstraintsParallel()}).
+     *           Ce mode prend le pas sur {@link #withWarmStart(boolean)}.
+     *
+     * @param pool le pool sur lequel répartir les appels à lp_solve, ou <code>null</code> pour tout faire séquentiellement
+     * @return cette instance
+     */
+    public Daalmans withParallelism(final ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * Fait chercher chaque problème lp_solve dans un cache avant de le construire, et y garde son résultat.
+     *
+     * @implNote Seuls les problèmes construits pour une résolution sont concernés : ceux des recherches sur une copie
+     *           du système, et ceux de la recherche des variables fixes sans {@link #withWarmStart(boolean)}. Les
+     *           problèmes chargés une fois puis modifiés ne le sont pas.
+     *           Un même cache peut être partagé entre plusieurs simplifications qui partent du même système (voir
+     *           {@link CacheLP}) : elles résolvent alors chacune des problèmes déjà résolus par les autres.
+     *
+     * @param cache le cache, ou <code>null</code> pour tout résoudre
+     * @return cette instance
+     */
+    public Daalmans withCache(final CacheLP cache) {
+        this.cache = cache;
+        return this;
     }
 
     /**
@@ -34,77 +124,170 @@ public class Daalmans extends Simplification {
      */
     public void run() {
         try {
+            this.removeParallelConstraints();
+            this.removeImpliedConstraints();
             this.removeFixedVariables();
             this.removeConstantConstraints();
+            this.removeDependentEqualities();
             this.removeRedundantConstraints();
+
+            if (Config.VERBOSE) {
+                System.err.println(this.temoins.getNbAppelsEvites() + " appel(s) à lp_solve évité(s) grâce aux solutions déjà trouvées");
+                if (this.cache != null) System.err.println(this.cache);
+                System.err.println(this.rapport);
+            }
         } catch (TypeInegaliteInvalideException | TailleLigneInvalideException | ProblemeSansVariablesException e) {
             e.printStackTrace();
         }
     }
 
-    private double solve(final boolean isMax, final double[] objective, final BooleanHolder isInfinite, final BooleanHolder isFeasable) throws LpSolveException, TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException, NonResoluException {
-        return solve(isMax, objective, this.system, isInfinite, isFeasable);
+    private double solve(final boolean isMax, final double[] objective, final BooleanHolder isInfinite, final BooleanHolder isFeasable, final BooleanHolder isVerified) throws LpSolveException, TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException, NonResoluException {
+        return solve(isMax, objective, this.system, isInfinite, isFeasable, isVerified);
     }
 
-    private double solve(final boolean isMax, final double[] objective, final LCSystem system, final BooleanHolder isInfinite, final BooleanHolder isFeasable) throws LpSolveException, TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException, NonResoluException {
-        final double[] obj = new double[objective.length + 1];
-        obj[0] = 0.;
-        System.arraycopy(objective, 0, obj, 1, objective.length);
+    private double solve(final boolean isMax, final double[] objective, final LCSystem system, final BooleanHolder isInfinite, final BooleanHolder isFeasable, final BooleanHolder isVerified) throws LpSolveException, TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException, NonResoluException {
+        // inutile de charger le système si le problème ne sera pas résolu
+        if (this.budget.isEpuise()) {
+            isVerified.set(false);
+            return 0.;
+        }
 
-        if (Config.VERBOSE) System.err.println("  Problème :");
+        final CacheLP.Cle cle = this.cache == null ? null : CacheLP.cle(system, isMax, objective);
+        final CacheLP.Resultat resultat = cle == null ? null : this.cache.get(cle);
+        if (resultat != null)
+            return this.utiliser(resultat, system == this.system, isInfinite, isFeasable, isVerified);
 
-        try (MLOProblem pb = new MLOProblem(system.getMatrix().columnCount() - 1)
-                .withObjective(obj)) {
-            if (Config.VERBOSE) System.err.println("  - Objectif : " + Arrays.toString(objective));
+        try (MLOProblem pb = this.load(system)) {
+            final double sol = this.solve(pb, system == this.system, isMax, objective, isInfinite, isFeasable, isVerified);
+            this.garder(cle, pb, sol, isVerified);
+            return sol;
+        }
+    }
 
-            if (isMax) pb.max();
-            else pb.min();
+    /**
+     * Utilise le résultat d'un problème déjà résolu à la place d'une résolution (voir {@link #withCache(CacheLP)}).
+     *
+     * @implNote Comme pour une résolution, la solution est gardée dans {@link #temoins}, et la résolution n'est plus
+     *           prévue.
+     */
+    private double utiliser(final CacheLP.Resultat resultat, final boolean surSysteme, final BooleanHolder isInfinite, final BooleanHolder isFeasable, final BooleanHolder isVerified) {
+        if (Config.VERBOSE) System.err.println("  - Résultat déjà connu : " + resultat.valeur);
 
-            if (Config.VERBOSE) System.err.println("  - Max : " + isMax);
+        this.resolutionsPrevues.getAndUpdate(k -> Math.max(0, k - 1));
 
-            final Matrix2 matrix = system.getMatrix();
+        isVerified.set(true);
+        if (isInfinite != null)
+            isInfinite.set(resultat.infini);
+        if (isFeasable != null)
+            isFeasable.set(resultat.faisable);
 
-            if (Config.VERBOSE) System.err.println("  - Contraintes :");
-            for (int i = 0; i < matrix.rowCount(); ++i) {
-                final Double[] row = matrix.row(i);
+        final double[] solution = resultat.getSolution();
+        if (solution != null)
+            this.temoins.ajouter(solution, surSysteme);
 
-                // tout ceci est nécessaire car :
-                // - `row` est de type `Double[]`, non trivialement transformable en `double[]`
-                // - `row_` contient également les coeffcients de droite, qu'il faut extraire avant de donner à lp_solve
-                final double[] row_ = new double[row.length];
-                for (int k = 0; k < row.length; ++k) {
-                    row_[k] = row[k];
-                }
-                final double[] row__ = new double[row_.length];
-                row__[0] = 0.;
-                System.arraycopy(row_, 0, row__, 1, row_.length - 1);
+        return resultat.valeur;
+    }
 
-                final int ineqty = system.getIneqTypes()[i];
+    /**
+     * Garde le résultat d'un problème qui vient d'être résolu, s'il l'a été jusqu'au bout.
+     *
+     * @param cle l'identifiant du problème, ou <code>null</code> s'il n'y a pas de cache
+     */
+    private void garder(final CacheLP.Cle cle, final MLOProblem pb, final double sol, final BooleanHolder isVerified) throws LpSolveException, NonResoluException {
+        if (cle == null || !isVerified.get())
+            return;
 
-                if (Config.VERBOSE)
-                    System.err.println("    - [" + i + "]: " + Arrays.toString(row__) + (ineqty == EQ ? " = " : ineqty == LE ? " ⩽ " : " ⩾ ") + row_[row_.length - 1]);
+        this.cache.put(cle, new CacheLP.Resultat(sol, pb.isUnbounded(), !pb.isInfeasable(), pb.isOptimal() ? pb.getSolution() : null));
+    }
 
-                pb.withConstraint(row__, ineqty, row_[row_.length - 1]);
+    /**
+     * Charge toutes les contraintes d'un système dans un nouveau problème lp_solve, sans fonction objectif.
+     *
+     * @param system le système à charger
+     * @return le problème chargé, à fermer par l'appelant
+     */
+    private MLOProblem load(final LCSystem system) throws LpSolveException, TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
+        if (Config.VERBOSE) System.err.println("  Problème :");
+
+        final MLOProblem pb = new MLOProblem(system.getMatrix().columnCount() - 1);
+        try {
+            final Matrix matrix = system.getMatrix();
+
+            if (Config.VERBOSE) {
+                System.err.println("  - Contraintes :");
+                for (int i = 0; i < matrix.rowCount(); ++i) {
+                    final int ineqty = system.getIneqType(i);
+                    System.err.println("    - [" + i + "]: " + Arrays.toString(matrix.row(i)) + (ineqty == EQ ? " (=)" : ineqty == LE ? " (⩽)" : " (⩾)"));
+                }
             }
 
-            pb.withVarTypes(system.getVarTypes());
+            // seuls les coefficients non nuls sont transmis, en une seule fois (voir MLOProblem)
+            return pb.withSystem(system);
+        } catch (LpSolveException | TypeInegaliteInvalideException | TailleLigneInvalideException e) {
+            pb.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Résout un problème déjà chargé avec la fonction objectif donnée.
+     *
+     * @implNote Seuls la fonction objectif et le sens de l'optimisation sont changés : lp_solve repart de la base
+     *           de la résolution précédente du même problème.
+     *           La solution trouvée est gardée dans {@link #temoins}.
+     *
+     *           Le délai de la résolution est une part du temps restant (voir {@link Budget#timeout(int)}). Si le
+     *           temps est écoulé, le problème n'est pas résolu.
+     *
+     * @param surSysteme <code>true</code> si le problème a exactement les mêmes solutions que le système
+     * @param isVerified mis à <code>false</code> si le problème n'a pas été résolu jusqu'au bout (temps écoulé, ou
+     *                   délai de la résolution dépassé) : <code>isInfinite</code> et <code>isFeasable</code> ne
+     *                   prouvent alors rien
+     */
+    private double solve(final MLOProblem pb, final boolean surSysteme, final boolean isMax, final double[] objective, final BooleanHolder isInfinite, final BooleanHolder isFeasable, final BooleanHolder isVerified) throws LpSolveException, TailleLigneInvalideException, NonResoluException {
+        if (this.budget.isEpuise()) {
+            if (Config.VERBOSE) System.err.println("  - Temps écoulé, pas de résolution");
+            isVerified.set(false);
+            return 0.;
+        }
 
-            final double sol = pb.solve();
-            if (Config.VERBOSE) System.err.println("  - Solution : " + sol);
+        final double[] obj = new double[objective.length + 1];
+        obj[0] = 0.;
+        System.arraycopy(objective, 0, obj, 1, objective.length);
 
-            if (isInfinite != null) {
-                final boolean isInfinite_ = pb.isUnbounded();
-                if (Config.VERBOSE) System.err.println("  - Est infinie : " + isInfinite_);
-                isInfinite.set(isInfinite_);
-            }
-            if (isFeasable != null) {
-                final boolean isFeasable_ = !pb.isInfeasable();
-                if (Config.VERBOSE) System.err.println("  - Est faisable : " + isFeasable_);
-                isFeasable.set(isFeasable_);
-            }
+        pb.withObjective(obj);
+        if (Config.VERBOSE) System.err.println("  - Objectif : " + Arrays.toString(objective));
 
-            return sol;
+        if (isMax) pb.max();
+        else pb.min();
+
+        if (Config.VERBOSE) System.err.println("  - Max : " + isMax);
+
+        pb.withTimeout(this.budget.timeout(this.resolutionsPrevues.getAndUpdate(k -> Math.max(0, k - 1))));
+
+        final double sol = pb.solve();
+        if (Config.VERBOSE) System.err.println("  - Solution : " + sol);
+
+        // un délai dépassé (ou une erreur numérique) n'est pas une preuve d'infaisabilité, ni d'optimalité
+        final boolean isVerified_ = !pb.isTimedOut() && (pb.isOptimal() || pb.isInfeasable() || pb.isUnbounded());
+        if (Config.VERBOSE && !isVerified_) System.err.println("  - Délai dépassé");
+        isVerified.set(isVerified_);
+
+        if (isInfinite != null) {
+            final boolean isInfinite_ = pb.isUnbounded();
+            if (Config.VERBOSE) System.err.println("  - Est infinie : " + isInfinite_);
+            isInfinite.set(isInfinite_);
         }
+        if (isFeasable != null) {
+            final boolean isFeasable_ = !pb.isInfeasable();
+            if (Config.VERBOSE) System.err.println("  - Est faisable : " + isFeasable_);
+            isFeasable.set(isFeasable_);
+        }
+
+        if (pb.isOptimal())
+            this.temoins.ajouter(pb.getSolution(), surSysteme);
+
+        return sol;
     }
 
     /**
@@ -122,77 +305,278 @@ public class Daalmans extends Simplification {
      * @throws ProblemeSansVariablesException
      */
     private void removeFixedVariables() throws TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
-        final Matrix2 matrix = this.system.getMatrix();
+        final Matrix matrix = this.system.getMatrix();
         final int nbVars = matrix.columnCount() - 1;
+        this.resolutionsPrevues.set(2 * nbVars);
+
+        if (this.pool != null && nbVars > 1) {
+            this.removeFixedVariablesParallel(matrix, nbVars);
+            return;
+        }
+
+        // en mode warm start, le système n'est chargé qu'une fois dans lp_solve pour toutes les variables
+        MLOProblem live = null;
+        if (this.warmStart) {
+            try {
+                live = this.load(this.system);
+            } catch (LpSolveException e) {
+                e.printStackTrace();
+            }
+        }
+
+        try {
+            this.removeFixedVariables(matrix, nbVars, live);
+        } finally {
+            if (live != null)
+                live.close();
+        }
+    }
 
+    private void removeFixedVariables(final Matrix matrix, final int nbVars, final MLOProblem live) throws TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
         for (int n = 0; n < nbVars; ++n) {
-            if (Config.VERBOSE) System.err.println("Variable " + n + " fixe ?");
+            final double[] bounds = this.probe(live, n, nbVars);
 
-            final double[] localObjective = new double[nbVars];
-            localObjective[n] = 1.;
+            if (bounds != null && Math.abs(bounds[1] - bounds[0]) < DELTA)
+                this.fixVariable(matrix, n, bounds[0], bounds[1], live);
+        }
+    }
 
-            double solMin, solMax;
-            try {
-                final BooleanHolder minFeasable = new BooleanHolder();
-                final BooleanHolder minUnbounded = new BooleanHolder();
-                final BooleanHolder maxFeasable = new BooleanHolder();
-                final BooleanHolder maxUnbounded = new BooleanHolder();
+    /**
+     * Cherche les variables fixes en répartissant les variables sur le pool.
+     *
+     * @implNote Fixer une variable ne change pas l'ensemble des solutions du système : les bornes trouvées par les
+     *           tâches, toutes sur le système initial, sont celles qu'on aurait trouvées séquentiellement.
+     *           Les substitutions sont ensuite faites dans l'ordre des variables. Une variable qu'une tâche n'a pas
+     *           pu tester (erreur de lp_solve) est testée à ce moment-là, sur le système courant.
+     */
+    private void removeFixedVariablesParallel(final Matrix matrix, final int nbVars) throws TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
+        final double[][] bounds = new double[nbVars][];
+        final boolean[] probed = new boolean[nbVars];
 
-                solMin = this.solve(false, localObjective, minUnbounded, minFeasable);
-                solMax = this.solve(true, localObjective, maxUnbounded, maxFeasable);
+        this.pool.invoke(new Repartition(nbVars, (pb, n) -> {
+            bounds[n] = this.probe(pb, n, nbVars);
+            probed[n] = true;
+        }));
 
-                if (!(minFeasable.get() || minUnbounded.get()) || !(maxFeasable.get() || maxUnbounded.get()))
-                    continue;
-            } catch (LpSolveException | NonResoluException e) {
-                e.printStackTrace();
-                continue;
+        for (int n = 0; n < nbVars; ++n) {
+            final double[] bounds_ = probed[n] ? bounds[n] : this.probe(null, n, nbVars);
+
+            if (bounds_ != null && Math.abs(bounds_[1] - bounds_[0]) < DELTA)
+                this.fixVariable(matrix, n, bounds_[0], bounds_[1], null);
+        }
+    }
+
+    /**
+     * Calcule le minimum et le maximum d'une variable sur le système.
+     *
+     * @param pb le problème lp_solve déjà chargé avec le système, ou <code>null</code> pour charger le système courant
+     * @param n l'indice de la variable
+     * @param nbVars le nombre de variables du système
+     * @return <code>{min, max}</code>, ou <code>null</code> si l'un des deux problèmes n'est pas faisable ou n'a pas
+     *         pu être résolu (la variable est alors notée dans le {@link #rapport})
+     */
+    private double[] probe(final MLOProblem pb, final int n, final int nbVars) throws TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
+        if (Config.VERBOSE) System.err.println("Variable " + n + " fixe ?");
+
+        // deux solutions déjà connues suffisent à prouver que la variable n'est pas fixe
+        if (this.temoins.nonFixe(n)) {
+            if (Config.VERBOSE) System.err.println("  = Variable " + n + " non fixe (solutions déjà connues)");
+            return null;
+        }
+
+        final double[] localObjective = new double[nbVars];
+        localObjective[n] = 1.;
+
+        double solMin, solMax;
+        try {
+            final BooleanHolder minFeasable = new BooleanHolder();
+            final BooleanHolder minUnbounded = new BooleanHolder();
+            final BooleanHolder minVerified = new BooleanHolder();
+            final BooleanHolder maxFeasable = new BooleanHolder();
+            final BooleanHolder maxUnbounded = new BooleanHolder();
+            final BooleanHolder maxVerified = new BooleanHolder(false);
+
+            if (pb != null) {
+                solMin = this.solve(pb, true, false, localObjective, minUnbounded, minFeasable, minVerified);
+                solMax = minVerified.get() ? this.solve(pb, true, true, localObjective, maxUnbounded, maxFeasable, maxVerified) : 0.;
+            } else {
+                solMin = this.solve(false, localObjective, minUnbounded, minFeasable, minVerified);
+                solMax = minVerified.get() ? this.solve(true, localObjective, maxUnbounded, maxFeasable, maxVerified) : 0.;
             }
 
-            if (Math.abs(solMax - solMin) < DELTA) {
-                if (Config.VERBOSE) System.err.println("  = Variable " + n + " redondante");
+            // sans résolution complète, les deux valeurs peuvent être égales sans que la variable soit fixe
+            if (!minVerified.get() || !maxVerified.get()) {
+                if (Config.VERBOSE) System.err.println("  = Variable " + n + " non vérifiée");
+                this.rapport.variableNonVerifiee(n);
+                return null;
+            }
 
-                // variable redondante
-                for (int i = 0; i < matrix.rowCount(); ++i) {
-                    final Double[] row = matrix.row(i);
-                    final Double coeff = row[n];
+            if (!(minFeasable.get() || minUnbounded.get()) || !(maxFeasable.get() || maxUnbounded.get()))
+                return null;
+        } catch (LpSolveException | NonResoluException e) {
+            e.printStackTrace();
+            this.rapport.variableNonVerifiee(n);
+            return null;
+        }
 
-                    row[n] = 0.;
-                    row[row.length - 1] -= coeff * solMin;
-                }
+        return new double[]{solMin, solMax};
+    }
 
-                final Double[] newConstraint = new Double[matrix.columnCount()];
-                newConstraint[n] = 1.;
-                newConstraint[matrix.columnCount() - 1] = solMax;
-                for (int i = 0; i < newConstraint.length - 1; ++i) {
-                    if (i != n) newConstraint[i] = 0.;
-                }
+    /**
+     * Remplace la variable <code>n</code> par sa valeur dans tout le système : <code>S = S[V → solMin] U {V = solMax}</code>.
+     *
+     * @param live le problème lp_solve chargé avec le système, auquel ajouter la nouvelle égalité, ou <code>null</code>
+     */
+    private void fixVariable(final Matrix matrix, final int n, final double solMin, final double solMax, final MLOProblem live) throws TypeInegaliteInvalideException, TailleLigneInvalideException {
+        if (Config.VERBOSE) System.err.println("  = Variable " + n + " redondante");
+
+        // variable redondante
+        final int b = matrix.columnCount() - 1;
+        final int[] rows = new int[matrix.rowCount()];
+        final double[] coeffs = new double[matrix.rowCount()];
+
+        // seules les lignes où la variable apparaît sont modifiées
+        final int count = matrix.columnNonZeros(n, rows, coeffs);
+        for (int k = 0; k < count; ++k) {
+            final int i = rows[k];
+
+            matrix.setDouble(i, n, 0.);
+            matrix.setDouble(i, b, matrix.getDouble(i, b) - coeffs[k] * solMin);
+        }
 
-                matrix.appendRow(newConstraint);
-                system.appendIneqType(EQ);
+        final double[] newConstraint = new double[matrix.columnCount()];
+        newConstraint[n] = 1.;
+        newConstraint[b] = solMax;
+
+        matrix.appendRow(newConstraint);
+        system.setLastIneqType(EQ);
+
+        // la substitution ne change pas l'ensemble des solutions : le problème chargé reste valable,
+        // il suffit d'y ajouter la nouvelle égalité
+        if (live != null) {
+            try {
+                live.withConstraint(matrix.rowView(matrix.rowCount() - 1), EQ);
+            } catch (LpSolveException e) {
+                e.printStackTrace();
             }
         }
     }
 
+    /**
+     * Retire les contraintes rendues redondantes par une contrainte parallèle plus forte, sans appeler lp_solve
+     * (voir {@link LignesParalleles}).
+     *
+     * @return le nombre d'appels à lp_solve évités pendant la recherche des contraintes redondantes
+     */
+    public int removeParallelConstraints() {
+        return new LignesParalleles(this.system).retirerLignesParalleles();
+    }
+
+    /**
+     * Retire les contraintes redondantes d'après les seules bornes des variables, sans appeler lp_solve
+     * (voir {@link BornesActivite}).
+     *
+     * @return le nombre d'appels à lp_solve évités pendant la recherche des contraintes redondantes
+     */
+    public int removeImpliedConstraints() {
+        return new BornesActivite(this.system).retirerRedondances();
+    }
+
     /**
      * Simple optimisation : retire toutes les contraintes où aucune variable n'est présente à gauche.
      */
     public void removeConstantConstraints() {
-        final Matrix2 matrix = this.system.getMatrix();
+        final Matrix matrix = this.system.getMatrix();
 
         final int nbConstraints = matrix.rowCount();
 
         for (int i = nbConstraints - 1; i >= 0; --i) {
-            final Double[] row = matrix.row(i);
+            // on ne veut pas du coefficient dans `b`, qui est le dernier
+            final boolean constant = matrix.isRowNearZero(i, matrix.columnCount() - 1, DELTA);
 
-            if (Arrays.stream(row).limit(row.length - 1).allMatch(d -> Math.abs(d) <= DELTA)) {
-                //                 ^^^^^^^^^^^^^^^^^^^^^
-                //  On ne veut pas du coefficient dans `b`, qui est le dernier
+            if (constant) {
                 if (Config.VERBOSE)
                     System.err.println("Contrainte constante " + i + " retirée");
 
-                this.system.removeConstraint(i);
+                this.system.markConstraintRemoved(i);
             }
         }
+
+        this.system.compact();
+    }
+
+    /**
+     * Retire les égalités qui sont des combinaisons linéaires d'autres égalités du système, sans appeler lp_solve.
+     *
+     * @implNote Les égalités sont échelonnées une par une, dans l'ordre du système, par un pivot de Gauss avec choix
+     *           du plus grand pivot sur une copie dense (avec les mêmes opérations sur les lignes que
+     *           {@link PivotGauss}). Une égalité qui s'annule entièrement (coefficient de droite compris) est une
+     *           combinaison des égalités précédentes : elle est retirée.
+     *           Une égalité dont seule la partie gauche s'annule contredit les précédentes : elle est gardée.
+     */
+    public void removeDependentEqualities() {
+        final Matrix matrix = this.system.getMatrix();
+        final int nbConstraints = matrix.rowCount();
+        final int b = matrix.columnCount() - 1;
+
+        int nbEqualities = 0;
+        for (int i = 0; i < nbConstraints; ++i) {
+            if (this.system.getIneqType(i) == EQ)
+                nbEqualities++;
+        }
+        if (nbEqualities < 2)
+            return;
+
+        // les égalités déjà échelonnées, et la colonne de leur pivot
+        final Matrix2 echelon = new Matrix2(nbEqualities, matrix.columnCount());
+        final int[] pivots = new int[nbEqualities];
+        final double[] row = new double[matrix.columnCount()];
+        int rank = 0;
+        int nbRemoved = 0;
+
+        for (int i = 0; i < nbConstraints; ++i) {
+            if (this.system.getIneqType(i) != EQ)
+                continue;
+
+            matrix.rowView(i).get(row);
+            echelon.setRow(rank, row);
+
+            double scale = 1.;
+            for (final double value : row) {
+                scale = Math.max(scale, Math.abs(value));
+            }
+
+            for (int k = 0; k < rank; ++k) {
+                final double lambda = echelon.getDouble(rank, pivots[k]) / echelon.getDouble(k, pivots[k]);
+                if (lambda != 0.)
+                    echelon.addScaledRow(rank, k, -lambda);
+            }
+
+            int pivot = -1;
+            double max = DELTA * scale;
+            for (int j = 0; j < b; ++j) {
+                final double value = Math.abs(echelon.getDouble(rank, j));
+                if (value > max) {
+                    max = value;
+                    pivot = j;
+                }
+            }
+
+            if (pivot != -1) {
+                pivots[rank++] = pivot;
+            } else if (Math.abs(echelon.getDouble(rank, b)) <= DELTA * scale) {
+                if (Config.VERBOSE)
+                    System.err.println("Égalité " + i + " combinaison des précédentes, retirée");
+
+                this.system.markConstraintRemoved(i);
+                nbRemoved++;
+            }
+        }
+
+        if (Config.VERBOSE)
+            System.err.println(nbRemoved + " égalité(s) dépendante(s) retirée(s), " + 2 * nbRemoved + " appel(s) à lp_solve évité(s)");
+
+        this.system.compact();
     }
 
     /**
@@ -208,85 +592,446 @@ public class Daalmans extends Simplification {
      * @throws TailleLigneInvalideException
      * @throws ProblemeSansVariablesException
      */
-    private void removeRedundantConstraints() throws TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
-        final Matrix2 matrix = this.system.getMatrix();
+    void removeRedundantConstraints() throws TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
+        this.derniereBase = null;
 
-        // détail d'implantation :
-        //
-        // on itère en partant de la fin, comme ça si on supprime des contraintes, les indices des contraintes
-        // suivantes ne sont pas changés dynamiquement
-        for (int i = matrix.rowCount() - 1; i >= 0; --i) {
-            if (Config.VERBOSE) System.err.println("Contrainte " + i + " redondante ?");
+        // une résolution par contrainte, deux par égalité
+        int nbResolutions = 0;
+        for (int i = 0; i < this.system.getMatrix().rowCount(); ++i) {
+            nbResolutions += this.system.getIneqType(i) == EQ ? 2 : 1;
+        }
+        this.resolutionsPrevues.set(nbResolutions);
 
-            boolean result = true;
+        if (this.pool != null && this.system.getMatrix().rowCount() > 1) {
+            this.removeRedundantConstraintsParallel();
+            return;
+        }
 
-            final LCSystem tmp = this.system.clone();
-            final int ineqType = this.system.getIneqTypes()[i];
-            final Double[] row = this.system.getMatrix().row(i);
+        if (this.warmStart) {
+            // en mode warm start, le système n'est chargé qu'une fois dans lp_solve pour toutes les contraintes
+            try (MLOProblem live = this.load(this.system)) {
+                this.removeRedundantConstraints(live);
+                return;
+            } catch (LpSolveException | LigneInvalideException e) {
+                e.printStackTrace();
+            }
+        }
+
+        // chaque contrainte est testée sur une copie du système : les copies partagent les lignes non modifiées,
+        // et le système retrouve sa représentation à la fin
+        final boolean copieSurEcriture = this.system.enableCopyOnWrite();
+        try {
+            final Matrix matrix = this.system.getMatrix();
+
+            // détail d'implantation :
+            //
+            // on itère en partant de la fin, comme ça si on supprime des contraintes, les indices des contraintes
+            // suivantes ne sont pas changés dynamiquement
+            // (les indices notés sont donc ceux du début de la recherche)
+            final BitSet nonVerifiees = new BitSet();
+            final BitSet retirees = new BitSet();
+            for (int i = matrix.rowCount() - 1; i >= 0; --i) {
+                final Boolean redundant = this.isRedundant(i);
+
+                if (redundant == null) {
+                    nonVerifiees.set(i);
+                } else if (redundant) {
+                    this.system.removeConstraint(i);
+                    retirees.set(i);
+                    // la dernière base a une contrainte de trop
+                    this.derniereBase = null;
+                }
+            }
+
+            this.rapport.lignesNonVerifiees(nonVerifiees, retirees);
+        } finally {
+            if (copieSurEcriture)
+                this.system.disableCopyOnWrite();
+        }
+    }
+
+    /**
+     * Vérifie si la contrainte <code>i</code> est redondante dans le système courant, sur une copie du système.
+     *
+     * @implNote Le système doit être en copie sur écriture (voir {@link LCSystem#enableCopyOnWrite()}).
+     *           Chaque copie ne diffère de la précédente que par la contrainte inversée : lp_solve repart de la base
+     *           de la copie précédente (voir {@link #isFeasible(LCSystem, int)}).
+     *
+     * @return <code>null</code> si lp_solve n'a pas pu conclure (temps écoulé ou erreur)
+     */
+    private Boolean isRedundant(final int i) throws TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
+        if (Config.VERBOSE) System.err.println("Contrainte " + i + " redondante ?");
+
+        // un point déjà connu peut suffire à prouver que la contrainte n'est pas redondante
+        if (this.temoins.nonRedondante(this.system, i, EPSILON)) {
+            if (Config.VERBOSE) System.err.println("  = Redondante ? false (point déjà connu)");
+            return false;
+        }
+
+        final Matrix matrix = this.system.getMatrix();
+        Boolean result = true;
+
+        // une copie hors tas est libérée dès que la contrainte est vérifiée
+        try (LCSystem tmp = this.system.clone()) {
+            final int ineqType = this.system.getIneqType(i);
+            final double[] row = new double[matrix.columnCount()];
+            matrix.rowView(i).get(row);
 
             tmp.removeConstraint(i);
 
-            final Matrix2 matrix2 = tmp.getMatrix();
+            final Matrix matrix2 = tmp.getMatrix();
 
             switch (ineqType) {
                 case EQ: {
-                    final Double tmpResult = row[row.length - 1];
+                    final double tmpResult = row[row.length - 1];
 
                     row[row.length - 1] = tmpResult + EPSILON;
                     matrix2.appendRow(row);
-                    tmp.appendIneqType(GE);
+                    tmp.setLastIneqType(GE);
 
-                    result = this.isFeasible(tmp);
+                    result = this.isFeasible(tmp, i);
+                    if (Boolean.TRUE.equals(result))
+                        break;
 
-                    row[row.length - 1] = tmpResult - EPSILON;
-                    tmp.setIneqTypes(tmp.getIneqTypes().length - 1, LE);
+                    matrix2.setDouble(matrix2.rowCount() - 1, row.length - 1, tmpResult - EPSILON);
+                    tmp.setIneqTypes(tmp.getMatrix().rowCount() - 1, LE);
 
-                    result = result | this.isFeasible(tmp);
+                    result = or(result, this.isFeasible(tmp, i));
                     break;
                 }
                 case LE: {
                     row[row.length - 1] += EPSILON;
 
                     matrix2.appendRow(row);
-                    tmp.appendIneqType(GE);
+                    tmp.setLastIneqType(GE);
 
-                    result = this.isFeasible(tmp);
+                    result = this.isFeasible(tmp, i);
                     break;
                 }
                 case GE: {
                     row[row.length - 1] -= EPSILON;
 
                     matrix2.appendRow(row);
-                    tmp.appendIneqType(LE);
+                    tmp.setLastIneqType(LE);
 
-                    result = this.isFeasible(tmp);
+                    result = this.isFeasible(tmp, i);
                     break;
                 }
             }
+        }
+
+        if (Config.VERBOSE) System.err.println("  = Redondante ? " + (result == null ? "non vérifiée" : !result));
 
-            if (Config.VERBOSE) System.err.println("  = Redondante ? " + !result);
+        return result == null ? null : !result;
+    }
 
-            if (!result) {
+    /**
+     * Même algorithme que {@link #removeRedundantConstraints()}, sur un problème lp_solve déjà chargé avec le système.
+     *
+     * @implNote La contrainte <code>c</code> testée n'est pas copiée : <code>not c</code> est obtenue en changeant son
+     *           type et sa partie droite dans le problème chargé. Elle est ensuite remise en place si elle n'est pas
+     *           redondante, ou retirée du problème comme du système sinon.
+     *           Comme on itère en partant de la fin, l'indice d'une contrainte dans le problème reste le même que dans
+     *           le système.
+     *
+     * @param live le problème lp_solve contenant exactement les contraintes du système, dans le même ordre
+     */
+    private void removeRedundantConstraints(final MLOProblem live) throws LpSolveException, LigneInvalideException, TypeInegaliteInvalideException, TailleLigneInvalideException {
+        final BitSet nonVerifiees = new BitSet();
+        final BitSet retirees = new BitSet();
+        for (int i = this.system.getMatrix().rowCount() - 1; i >= 0; --i) {
+            final Boolean redundant = this.isRedundant(live, i);
+
+            if (redundant == null) {
+                nonVerifiees.set(i);
+            } else if (redundant) {
+                live.removeConstraint(i);
                 this.system.removeConstraint(i);
+                retirees.set(i);
             }
         }
+
+        this.rapport.lignesNonVerifiees(nonVerifiees, retirees);
     }
 
-    private boolean isFeasible(final LCSystem system) throws TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
-        final Matrix2 matrix = this.system.getMatrix();
-        final double[] objective = new double[matrix.columnCount() - 1];
+    /**
+     * Cherche les contraintes redondantes en répartissant les contraintes sur le pool.
+     *
+     * @implNote Chaque tâche teste ses contraintes sur le système initial. Deux contraintes peuvent alors être
+     *           redondantes chacune, sans pouvoir être retirées toutes les deux (deux contraintes identiques par
+     *           exemple) : les décisions sont donc appliquées en partant de la fin, comme séquentiellement.
+     *           <ul>
+     *               <li>une contrainte non redondante dans le système initial ne l'est dans aucun sous-système :
+     *                   elle est gardée sans nouveau test ;</li>
+     *               <li>une contrainte redondante dans le système initial est retirée sans nouveau test tant
+     *                   qu'aucune contrainte n'a été retirée, et testée à nouveau sur le système courant sinon.</li>
+     *           </ul>
+     *           Le résultat est donc le même que sans parallélisme.
+     *           Une contrainte qu'une tâche n'a pas pu vérifier faute de temps est gardée sans nouveau test.
+     */
+    private void removeRedundantConstraintsParallel() throws TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
+        final int nbConstraints = this.system.getMatrix().rowCount();
+        final Boolean[] candidates = new Boolean[nbConstraints];
+        final boolean[] checked = new boolean[nbConstraints];
+
+        this.pool.invoke(new Repartition(nbConstraints, (pb, i) -> {
+            candidates[i] = this.isRedundant(pb, i);
+            checked[i] = true;
+        }));
+
+        // les nouveaux tests se font sur des copies du système, comme séquentiellement
+        final boolean copieSurEcriture = this.system.enableCopyOnWrite();
+        try {
+            final BitSet nonVerifiees = new BitSet();
+            final BitSet retirees = new BitSet();
+            int nbRechecks = 0;
+            for (int i = nbConstraints - 1; i >= 0; --i) {
+                if (checked[i] && Boolean.FALSE.equals(candidates[i]))
+                    continue;
+
+                final Boolean redundant;
+                if (checked[i] && (candidates[i] == null || retirees.isEmpty())) {
+                    redundant = candidates[i];
+                } else {
+                    redundant = this.isRedundant(i);
+                    nbRechecks++;
+                }
+
+                if (redundant == null) {
+                    nonVerifiees.set(i);
+                } else if (redundant) {
+                    this.system.removeConstraint(i);
+                    retirees.set(i);
+                    // la dernière base a une contrainte de trop
+                    this.derniereBase = null;
+                }
+            }
+
+            this.rapport.lignesNonVerifiees(nonVerifiees, retirees);
+
+            if (Config.VERBOSE)
+                System.err.println(nbRechecks + " contrainte(s) testée(s) à nouveau après la répartition");
+        } finally {
+            if (copieSurEcriture)
+                this.system.disableCopyOnWrite();
+        }
+    }
+
+    /**
+     * Vérifie si la contrainte <code>i</code> est redondante, sur un problème lp_solve déjà chargé avec le système.
+     *
+     * @implNote La contrainte est remise en place (type et partie droite) avant de retourner.
+     *
+     * @return <code>null</code> si lp_solve n'a pas pu conclure (temps écoulé ou erreur)
+     */
+    private Boolean isRedundant(final MLOProblem live, final int i) throws LpSolveException, LigneInvalideException, TypeInegaliteInvalideException, TailleLigneInvalideException {
+        if (Config.VERBOSE) System.err.println("Contrainte " + i + " redondante ?");
+
+        // un point déjà connu peut suffire à prouver que la contrainte n'est pas redondante
+        if (this.temoins.nonRedondante(this.system, i, EPSILON)) {
+            if (Config.VERBOSE) System.err.println("  = Redondante ? false (point déjà connu)");
+            return false;
+        }
+
+        final Matrix matrix = this.system.getMatrix();
+        final int ineqType = this.system.getIneqType(i);
+        final double rhs = matrix.getDouble(i, matrix.columnCount() - 1);
+
+        Boolean result = true;
+        switch (ineqType) {
+            case EQ:
+                result = this.isFeasible(live, i, GE, rhs + EPSILON);
+                if (!Boolean.TRUE.equals(result))
+                    result = or(result, this.isFeasible(live, i, LE, rhs - EPSILON));
+                break;
+            case LE:
+                result = this.isFeasible(live, i, GE, rhs + EPSILON);
+                break;
+            case GE:
+                result = this.isFeasible(live, i, LE, rhs - EPSILON);
+                break;
+        }
+
+        live.withConstraintType(i, ineqType).withConstraintRHS(i, rhs);
+
+        if (Config.VERBOSE) System.err.println("  = Redondante ? " + (result == null ? "non vérifiée" : !result));
+
+        return result == null ? null : !result;
+    }
+
+    /**
+     * Le « ou » de deux résultats dont l'un peut être inconnu (<code>null</code>) : vrai si l'un des deux est vrai,
+     * inconnu si l'un des deux est inconnu sinon.
+     */
+    private static Boolean or(final Boolean a, final Boolean b) {
+        if (Boolean.TRUE.equals(a) || Boolean.TRUE.equals(b))
+            return true;
+
+        return a == null || b == null ? null : false;
+    }
+
+    /**
+     * Vérifie si une copie du système, où la contrainte <code>i</code> est remplacée par son inverse, est faisable.
+     *
+     * @implNote Dans la copie, l'inverse de la contrainte <code>i</code> est la dernière contrainte. D'une copie à la
+     *           suivante, seule cette contrainte change : la résolution repart de la base de la dernière copie faisable
+     *           ({@link #derniereBase}), dont les contraintes sont renumérotées (voir {@link #deplacerLigne}). lp_solve
+     *           n'a alors que quelques pivots à faire au lieu de repartir de la base par défaut.
+     *
+     * @param system la copie du système
+     * @param i l'indice, dans le système, de la contrainte inversée
+     * @return <code>null</code> si lp_solve n'a pas pu conclure (temps écoulé ou erreur)
+     */
+    private Boolean isFeasible(final LCSystem system, final int i) throws TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
+        // inutile de charger la copie si le problème ne sera pas résolu
+        if (this.budget.isEpuise())
+            return null;
+
+        final int N = system.getMatrix().rowCount();
+        final double[] objective = new double[system.getMatrix().columnCount() - 1];
 
         final BooleanHolder isInfinite = new BooleanHolder();
         final BooleanHolder isFeasable = new BooleanHolder();
+        final BooleanHolder isVerified = new BooleanHolder();
+
+        final CacheLP.Cle cle = this.cache == null ? null : CacheLP.cle(system, false, objective);
+        final CacheLP.Resultat resultat = cle == null ? null : this.cache.get(cle);
+        if (resultat != null) {
+            this.utiliser(resultat, false, isInfinite, isFeasable, isVerified);
+            return isInfinite.get() || isFeasable.get();
+        }
+
+        try (MLOProblem pb = this.load(system)) {
+            if (this.derniereBase != null)
+                pb.withBasis(deplacerLigne(this.derniereBase, N, i, N - 1));
+
+            final double sol = this.solve(pb, false, false, objective, isInfinite, isFeasable, isVerified);
+            if (!isVerified.get())
+                return null;
+
+            this.garder(cle, pb, sol, isVerified);
+
+            if (pb.isOptimal()) {
+                final int[] base = pb.getBasis();
+                if (base != null)
+                    this.derniereBase = deplacerLigne(base, N, N - 1, i);
+            }
+
+            return isInfinite.get() || isFeasable.get();
+        } catch (LpSolveException | NonResoluException e) {
+            // une erreur ne prouve pas que le système est infaisable : la contrainte testée serait retirée à tort
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Renumérote les contraintes d'une base lp_solve (voir {@link MLOProblem#getBasis()}) quand la contrainte
+     * <code>de</code> est déplacée à l'indice <code>vers</code>, les contraintes entre les deux étant décalées d'un cran.
+     *
+     * @param base la base, qui n'est pas modifiée
+     * @param N le nombre de contraintes du problème
+     * @return la base renumérotée
+     */
+    static int[] deplacerLigne(final int[] base, final int N, final int de, final int vers) {
+        final int[] nouvelle = new int[base.length];
 
-        for (int i = 0; i < objective.length; ++i)
-            objective[i] = 0.;
+        for (int k = 1; k < base.length; ++k) {
+            final int v = Math.abs(base[k]);
+            // indices lp_solve : 1 à N pour les contraintes, puis les variables (inchangées)
+            int ligne = v - 1;
+            if (v >= 1 && v <= N) {
+                if (ligne == de)
+                    ligne = vers;
+                else if (de < vers && ligne > de && ligne <= vers)
+                    ligne--;
+                else if (de > vers && ligne >= vers && ligne < de)
+                    ligne++;
+            }
+
+            // le signe indique la borne d'une variable hors base
+            nouvelle[k] = base[k] < 0 ? -(ligne + 1) : ligne + 1;
+        }
+
+        return nouvelle;
+    }
+
+    /**
+     * Vérifie si le problème chargé reste faisable quand la contrainte <code>i</code> est remplacée par
+     * <code>a·x ineqType rhs</code>.
+     *
+     * @implNote La contrainte n'est pas remise en place par cette méthode.
+     *
+     * @return <code>null</code> si lp_solve n'a pas pu conclure (temps écoulé ou erreur)
+     */
+    private Boolean isFeasible(final MLOProblem live, final int i, final int ineqType, final double rhs) throws LpSolveException, LigneInvalideException, TypeInegaliteInvalideException, TailleLigneInvalideException {
+        // le type est changé avant la partie droite, que lp_solve garde telle quelle lors du changement de type
+        live.withConstraintType(i, ineqType).withConstraintRHS(i, rhs);
+
+        final double[] objective = new double[this.system.getMatrix().columnCount() - 1];
+        final BooleanHolder isInfinite = new BooleanHolder();
+        final BooleanHolder isFeasable = new BooleanHolder();
+        final BooleanHolder isVerified = new BooleanHolder();
 
         try {
-            this.solve(false, objective, system, isInfinite, isFeasable);
+            this.solve(live, false, false, objective, isInfinite, isFeasable, isVerified);
+            if (!isVerified.get())
+                return null;
+
             return isInfinite.get() || isFeasable.get();
         } catch (LpSolveException | NonResoluException e) {
-            return false;
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Un test fait par une tâche de {@link Repartition} sur sa propre copie du système dans lp_solve.
+     */
+    @FunctionalInterface
+    private interface Sonde {
+        void run(MLOProblem pb, int k) throws LpSolveException, LigneInvalideException, TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException;
+    }
+
+    /**
+     * Répartit les indices <code>0</code> à <code>count - 1</code> entre autant de tâches que le pool a de threads.
+     *
+     * @implNote Chaque tâche charge le système dans son propre problème lp_solve, qu'elle est seule à utiliser, puis
+     *           teste un indice sur <code>nbTaches</code> (les contraintes coûteuses à tester sont souvent voisines).
+     *           Une tâche qui rencontre une erreur s'arrête : les indices qu'elle n'a pas testés sont à tester
+     *           séquentiellement par l'appelant.
+     */
+    private final class Repartition extends RecursiveAction {
+        private final int count;
+        private final Sonde sonde;
+
+        Repartition(final int count, final Sonde sonde) {
+            this.count = count;
+            this.sonde = sonde;
+        }
+
+        @Override
+        protected void compute() {
+            final int nbTaches = Math.max(1, Math.min(pool.getParallelism(), this.count));
+            final List<RecursiveAction> taches = new ArrayList<>(nbTaches);
+
+            for (int t = 0; t < nbTaches; ++t) {
+                final int first = t;
+                taches.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        try (MLOProblem pb = load(system)) {
+                            for (int k = first; k < count; k += nbTaches) {
+                                sonde.run(pb, k);
+                            }
+                        } catch (LpSolveException | LigneInvalideException | TypeInegaliteInvalideException | TailleLigneInvalideException | ProblemeSansVariablesException e) {
+                            e.printStackTrace();
+                        }
+                    }
+                });
+            }
+
+            invokeAll(taches);
         }
     }
 
@@ -0,0 +1,193 @@
+package model.simplification;
+
+import config.Config;
+import model.LCSystem;
+import model.Matrix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static model.MLOProblem.*;
+
+/**
+ * Regroupe les contraintes dont les parties gauches sont proportionnelles, et ne garde que les plus fortes, sans
+ * appeler lp_solve.
+ *
+ * @implNote Chaque ligne est normalisée : divisée par son plus grand coefficient en valeur absolue, et par le signe de
+ *           son premier coefficient non nul (ce qui inverse les inégalités si ce signe est négatif). Les coefficients
+ *           normalisés sont arrondis à {@link #DELTA} près pour être hachés : deux lignes proportionnelles tombent
+ *           alors dans le même groupe, en un seul parcours des coefficients non nuls de la matrice.
+ *
+ *           Dans un groupe <code>a·x ⩽ b_1, a·x ⩽ b_2, a·x ⩾ b_3, ...</code> (une fois normalisé), seules la plus petite
+ *           borne supérieure et la plus grande borne inférieure sont gardées ; si elles sont égales, elles deviennent
+ *           une seule égalité. Une égalité rend redondantes toutes les autres lignes de son groupe. En cas d'égalité,
+ *           la ligne d'indice le plus petit est gardée, comme dans {@link Daalmans}.
+ *           Un groupe contradictoire (sans solution) n'est pas modifié.
+ */
+public class LignesParalleles extends Simplification {
+    private final static double DELTA = 0.00000001;
+
+    /**
+     * Initialise le regroupement des contraintes parallèles avec un système de contraintes linéaires.
+     *
+     * @param originalSystem le système de contraintes initial
+     * @implNote Attention : ce système sera modifié directement par l'algorithme.
+     */
+    public LignesParalleles(final LCSystem originalSystem) {
+        super(originalSystem);
+    }
+
+    public void run() {
+        this.retirerLignesParalleles();
+    }
+
+    /**
+     * Retire les contraintes rendues redondantes par une contrainte parallèle plus forte.
+     *
+     * @return le nombre d'appels à lp_solve évités par {@link Daalmans} (un par inégalité retirée, deux par égalité)
+     */
+    public int retirerLignesParalleles() {
+        final Matrix matrix = this.system.getMatrix();
+        final int N = matrix.rowCount();
+        final int n = matrix.columnCount();
+
+        final int[] cols = new int[n];
+        final double[] values = new double[n];
+
+        // la borne (normalisée) et le type (dans le sens normalisé) de chaque ligne
+        final double[] bornes = new double[N];
+        final int[] types = new int[N];
+        final Map<Cle, List<Integer>> groupes = new HashMap<>();
+
+        for (int i = 0; i < N; ++i) {
+            final int nbVars = matrix.lhsNonZeros(i, cols, values);
+
+            // les contraintes constantes sont traitées par Daalmans
+            if (nbVars == 0)
+                continue;
+
+            double max = 0.;
+            for (int k = 0; k < nbVars; ++k) {
+                max = Math.max(max, Math.abs(values[k]));
+            }
+            final double echelle = values[0] > 0 ? 1. / max : -1. / max;
+
+            final long[] arrondis = new long[nbVars];
+            for (int k = 0; k < nbVars; ++k) {
+                arrondis[k] = Math.round(values[k] * echelle / DELTA);
+            }
+
+            final int ineqType = this.system.getIneqType(i);
+            bornes[i] = matrix.rhs(i) * echelle;
+            types[i] = echelle > 0 || ineqType == EQ ? ineqType : ineqType == LE ? GE : LE;
+
+            groupes.computeIfAbsent(new Cle(Arrays.copyOf(cols, nbVars), arrondis), c -> new ArrayList<>(1)).add(i);
+        }
+
+        int nbRetirees = 0;
+        int nbAppelsEvites = 0;
+        for (final List<Integer> groupe : groupes.values()) {
+            if (groupe.size() < 2)
+                continue;
+
+            // les lignes sont dans l'ordre croissant : en cas d'égalité, la première est gardée
+            int sup = -1;
+            int inf = -1;
+            int egalite = -1;
+            boolean contradictoire = false;
+            for (final int i : groupe) {
+                if (types[i] == EQ) {
+                    if (egalite == -1)
+                        egalite = i;
+                    else
+                        contradictoire |= Math.abs(bornes[i] - bornes[egalite]) > tolerance(bornes[egalite]);
+                }
+                if ((types[i] == LE || types[i] == EQ) && (sup == -1 || bornes[i] < bornes[sup]))
+                    sup = i;
+                if ((types[i] == GE || types[i] == EQ) && (inf == -1 || bornes[i] > bornes[inf]))
+                    inf = i;
+            }
+            contradictoire |= sup != -1 && inf != -1 && bornes[inf] > bornes[sup] + tolerance(bornes[sup]);
+
+            if (contradictoire) {
+                if (Config.VERBOSE)
+                    System.err.println("Lignes parallèles : groupe " + groupe + " contradictoire, non modifié");
+                continue;
+            }
+
+            // une égalité, ou deux bornes égales, suffisent pour tout le groupe
+            int garde1 = sup;
+            int garde2 = inf;
+            if (egalite != -1) {
+                garde1 = garde2 = egalite;
+            } else if (sup != -1 && inf != -1 && bornes[inf] >= bornes[sup] - tolerance(bornes[sup])) {
+                garde1 = garde2 = Math.min(sup, inf);
+                this.system.setIneqTypes(garde1, EQ);
+            }
+
+            for (final int i : groupe) {
+                if (i == garde1 || i == garde2)
+                    continue;
+
+                if (Config.VERBOSE)
+                    System.err.println("Lignes parallèles : contrainte " + i + " retirée (groupe " + groupe + ")");
+
+                this.system.markConstraintRemoved(i);
+                nbRetirees++;
+                nbAppelsEvites += this.system.getIneqType(i) == EQ ? 2 : 1;
+            }
+        }
+
+        this.system.compact();
+
+        if (Config.VERBOSE)
+            System.err.println("Lignes parallèles : " + nbRetirees + " contrainte(s) retirée(s), " + nbAppelsEvites + " appel(s) à lp_solve évité(s)");
+
+        return nbAppelsEvites;
+    }
+
+    private static double tolerance(final double borne) {
+        return DELTA * Math.max(1., Math.abs(borne));
+    }
+
+    /**
+     * Une ligne normalisée : ses colonnes non nulles et ses coefficients arrondis.
+     */
+    private static final class Cle {
+        private final int[] colonnes;
+        private final long[] arrondis;
+        private final int hash;
+
+        Cle(final int[] colonnes, final long[] arrondis) {
+            this.colonnes = colonnes;
+            this.arrondis = arrondis;
+            this.hash = 31 * Arrays.hashCode(colonnes) + Arrays.hashCode(arrondis);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Cle))
+                return false;
+
+            final Cle cle = (Cle) o;
+            return this.hash == cle.hash && Arrays.equals(this.colonnes, cle.colonnes) && Arrays.equals(this.arrondis, cle.arrondis);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "------ LignesParalleles ------" +
+                "\n" + system +
+                ' ';
+    }
+}
@@ -0,0 +1,131 @@
+package model.simplification;
+
+import model.Decomposition;
+import model.LCSystem;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Applique une suite de simplifications à chaque bloc indépendant du système (voir {@link LCSystem#decompose()}),
+ * les blocs étant simplifiés en parallèle.
+ *
+ * @implNote Les blocs n'ont aucune variable en commun : une contrainte d'un bloc ne peut pas rendre redondante une
+ *           contrainte d'un autre bloc, ni fixer une de ses variables. Pour les simplifications qui retirent des
+ *           contraintes ou fixent des variables ({@link Daalmans}, {@link Clarkson}, ...), simplifier chaque bloc
+ *           séparément donne donc les mêmes contraintes que simplifier tout le système, avec des problèmes lp_solve
+ *           plus petits. Seul l'ordre des contraintes change : elles sont regroupées par bloc.
+ *
+ *           Les simplifications elles-mêmes ne sont pas modifiées : chacune est créée sur le sous-système d'un bloc.
+ *           Elles partagent toutes le même budget (voir {@link #run(Budget)}), et leurs rapports sont regroupés avec
+ *           les indices du système recomposé.
+ */
+public class ParBlocs extends Simplification {
+    private final ForkJoinPool pool;
+    private final List<Function<LCSystem, Simplification>> etapes;
+
+    /**
+     * @param sys le système à simplifier
+     * @param etapes les simplifications à appliquer à chaque bloc, dans l'ordre (par exemple <code>Daalmans::new</code>)
+     */
+    public ParBlocs(LCSystem sys, List<Function<LCSystem, Simplification>> etapes){
+        this(sys, ForkJoinPool.commonPool(), etapes);
+    }
+
+    /**
+     * @param sys le système à simplifier
+     * @param pool le pool sur lequel répartir les blocs
+     * @param etapes les simplifications à appliquer à chaque bloc, dans l'ordre (par exemple <code>Daalmans::new</code>)
+     */
+    public ParBlocs(LCSystem sys, ForkJoinPool pool, List<Function<LCSystem, Simplification>> etapes){
+        super(sys);
+
+        this.pool = pool;
+        this.etapes = List.copyOf(etapes);
+    }
+
+    @Override
+    public void run(){
+        final Decomposition decomposition = this.system.decompose();
+
+        if (decomposition.size() == 1) {
+            this.rapport.ajouter(this.simplifier(decomposition.getBloc(0)), 0, decomposition.getVariables(0));
+            return;
+        }
+
+        final Rapport[] rapports = new Rapport[decomposition.size()];
+        this.pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                final List<RecursiveAction> taches = new ArrayList<>(decomposition.size());
+                for (int k = 0; k < decomposition.size(); ++k) {
+                    final int k_ = k;
+                    taches.add(new RecursiveAction() {
+                        @Override
+                        protected void compute() {
+                            rapports[k_] = simplifier(decomposition.getBloc(k_));
+                        }
+                    });
+                }
+
+                invokeAll(taches);
+            }
+        });
+
+        // les blocs sont recomposés dans l'ordre : les lignes de chaque bloc suivent celles des blocs précédents
+        int premiereLigne = 0;
+        for (int k = 0; k < decomposition.size(); ++k) {
+            this.rapport.ajouter(rapports[k], premiereLigne, decomposition.getVariables(k));
+            premiereLigne += decomposition.getBloc(k).getMatrix().rowCount();
+        }
+
+        decomposition.recompose();
+    }
+
+    /**
+     * Applique toutes les simplifications à un bloc, l'une après l'autre.
+     *
+     * @implNote Les contraintes non vérifiées par une étape peuvent être retirées ou décalées par les suivantes : si
+     *           ce n'est pas la dernière étape, toutes les contraintes du bloc sont notées comme non vérifiées.
+     *
+     * @return ce qui n'a pas pu être vérifié dans le bloc, avec les indices du bloc
+     */
+    private Rapport simplifier(final LCSystem bloc){
+        final Rapport rapportBloc = new Rapport();
+        boolean toutes = false;
+        int[] lignes = new int[0];
+
+        for (int e = 0; e < this.etapes.size(); ++e) {
+            final Rapport rapportEtape = this.etapes.get(e).apply(bloc).run(this.budget);
+
+            // les variables ne sont jamais retirées : leurs indices restent valables
+            for (final int n : rapportEtape.getVariablesNonVerifiees())
+                rapportBloc.variableNonVerifiee(n);
+
+            lignes = rapportEtape.getLignesNonVerifiees();
+            toutes |= e < this.etapes.size() - 1 && lignes.length > 0;
+        }
+
+        final BitSet nonVerifiees = new BitSet();
+        if (toutes) {
+            nonVerifiees.set(0, bloc.getMatrix().rowCount());
+        } else {
+            for (final int i : lignes)
+                nonVerifiees.set(i);
+        }
+        rapportBloc.lignesNonVerifiees(nonVerifiees, new BitSet());
+
+        return rapportBloc;
+    }
+
+    @Override
+    public String toString() {
+        return "------ ParBlocs ------" +
+                "\n" + system +
+                ' ';
+    }
+}
@@ -4,7 +4,6 @@ import exceptions.algorithms.gauss.LigneIdentiqueException;
 import exceptions.algorithms.gauss.LignePresenteException;
 import lpsolve.LpSolve;
 import model.LCSystem;
-import model.Matrix2;
 
 public class PivotGauss extends Simplification {
 
@@ -16,69 +15,123 @@ public class PivotGauss extends Simplification {
      * Application du pivot de gauss sur le système
      */
     public void run(){
-        //récupération de la longueur d'une ligne
-        int n = system.getMatrix().columnCount();
+        //récupération du nombre de lignes (contraintes)
+        int N = system.getMatrix().rowCount();
+
+        selectionPivot();
+
+        for(int i = 0; i < N; i++){
+            elimination(i);
+        }
+
+        BorneSupInf bn = new BorneSupInf(this.system);
+        bn.borneSupInf();
+    }
+
+    /**
+     * Place la dernière égalité du système en première ligne, pour qu'elle serve de premier pivot.
+     */
+    protected void selectionPivot(){
         //récupération du nombre de lignes (contraintes)
         int N = system.getMatrix().rowCount();
 
         //Sélection du pivot
         int a = 0;
         for(int i = 0; i < N; i++){
-            if(this.system.getIneqTypes()[i] == LpSolve.EQ)
+            if(this.system.getIneqType(i) == LpSolve.EQ)
                 a = i;
         }
         if(a != 0) {
             //Vérification que a1j n'est pas nul
             //System.out.println(a);
-            if(system.getMatrix().get(a,0) != 0)
+            if(system.getMatrix().getDouble(a,0) != 0)
                 try {
                     echange(0, a); //échange du pivot si necessaire
                 } catch (LignePresenteException | LigneIdentiqueException e) {
                     e.printStackTrace();
                 }
         }
+    }
 
-        for(int i = 0; i < N; i++){
-            //Parcours de toutes les contraintes
-            for(int k = i + 1; k < N; k++){
-                double lambda;
-                if(i > n - 1)
-                    lambda = system.getMatrix().get(k,n - 1) / system.getMatrix().get(i , n - 1);
-                else
-                    lambda = system.getMatrix().get(k,i) / system.getMatrix().get(i , i);
-
-                if(i < n - 2) {
-                    try {
-                        soustraction(k, i, lambda);
-                        //System.out.println(system);
-                    } catch (LignePresenteException | LigneIdentiqueException e) {
-                        e.printStackTrace();
-                    }
-                }
-                else {//Lorsque l'on a plus de contraintes que de variable
-                    double lmb = 1 / system.getMatrix().get(k , n - 2);
-                    //System.out.println(lmb);
-                    try {
-                        multiplication(k,lmb);
-                    } catch (LignePresenteException | LigneIdentiqueException e) {
-                        e.printStackTrace();
-                    }
-                }
+    /**
+     * Élimine la variable <code>i</code> de toutes les lignes suivant la ligne <code>i</code>.
+     *
+     * @implNote Lorsque <code>i ⩾ n - 2</code> (plus de contraintes que de variables), les lignes suivantes sont
+     *           normalisées sur leur dernière variable au lieu d'être éliminées.
+     *
+     * @param i l'indice de la ligne du pivot
+     */
+    protected void elimination(int i){
+        //récupération du nombre de lignes (contraintes)
+        int N = system.getMatrix().rowCount();
+
+        //Parcours de toutes les contraintes
+        for(int k = i + 1; k < N; k++){
+            eliminationLigne(i, k);
+        }
+        normalisation(i);
+    }
+
+    /**
+     * Élimine la variable <code>i</code> de la ligne <code>k</code>, avec le pivot de la ligne <code>i</code>.
+     *
+     * @implNote Ne modifie que la ligne <code>k</code> : les lignes suivant un même pivot peuvent être traitées dans
+     *           n'importe quel ordre.
+     *
+     * @param i l'indice de la ligne du pivot
+     * @param k l'indice de la ligne à modifier, après <code>i</code>
+     */
+    protected void eliminationLigne(int i, int k){
+        //récupération de la longueur d'une ligne
+        int n = system.getMatrix().columnCount();
+
+        double lambda;
+        if(i > n - 1)
+            lambda = system.getMatrix().getDouble(k,n - 1) / system.getMatrix().getDouble(i , n - 1);
+        else
+            lambda = system.getMatrix().getDouble(k,i) / system.getMatrix().getDouble(i , i);
+
+        if(i < n - 2) {
+            //Rien à éliminer sur cette ligne
+            if(lambda == 0)
+                return;
+
+            try {
+                soustraction(k, i, lambda);
+                //System.out.println(system);
+            } catch (LignePresenteException | LigneIdentiqueException e) {
+                e.printStackTrace();
             }
-            if(i == n - 2) {
-                double lmb = 1 / system.getMatrix().get(i, n - 2);
-                //System.out.println(lmb);
-                try {
-                    multiplication(i, lmb);
-                } catch (LignePresenteException | LigneIdentiqueException e) {
-                    e.printStackTrace();
-                }
+        }
+        else {//Lorsque l'on a plus de contraintes que de variable
+            double lmb = 1 / system.getMatrix().getDouble(k , n - 2);
+            //System.out.println(lmb);
+            try {
+                multiplication(k,lmb);
+            } catch (LignePresenteException | LigneIdentiqueException e) {
+                e.printStackTrace();
             }
         }
+    }
 
+    /**
+     * Normalise la ligne du pivot <code>i</code> sur la dernière variable, si c'est la ligne de la dernière variable.
+     *
+     * @param i l'indice de la ligne du pivot
+     */
+    protected void normalisation(int i){
+        //récupération de la longueur d'une ligne
+        int n = system.getMatrix().columnCount();
 
-        BorneSupInf bn = new BorneSupInf(this.system);
-        bn.borneSupInf();
+        if(i == n - 2) {
+            double lmb = 1 / system.getMatrix().getDouble(i, n - 2);
+            //System.out.println(lmb);
+            try {
+                multiplication(i, lmb);
+            } catch (LignePresenteException | LigneIdentiqueException e) {
+                e.printStackTrace();
+            }
+        }
     }
 
     /**
@@ -91,9 +144,6 @@ public class PivotGauss extends Simplification {
      */
     public void echange(int Li, int Lj) throws LignePresenteException, LigneIdentiqueException {
 
-        //récupération de la longueur d'une ligne
-        int n = system.getMatrix().columnCount();
-
         //récupération du nombre de lignes (contraintes)
         int N = system.getMatrix().rowCount();
 
@@ -105,21 +155,8 @@ public class PivotGauss extends Simplification {
         if(Li == Lj)
             throw new LigneIdentiqueException();
 
-        Matrix2 tab = system.getMatrix();
-
-        double[] tabi = new double[n];
-        double[] tabj = new double[n];
-
-        for (int k = 0; k < n; k++) {
-            tabi[k] = tab.get(Lj, k);
-            tabj[k] = tab.get(Li, k);
-        }
-
         // Apllique les modifications sur la matrice
-        system.setMatrixRow(tabi, Li, false);
-        system.setIneqTypes(Li, system.getIneqTypes()[Lj]);
-        system.setMatrixRow(tabj, Lj, false);
-        system.setIneqTypes(Lj, system.getIneqTypes()[Li]);
+        system.swapRows(Li, Lj);
     }
 
     /**
@@ -131,9 +168,6 @@ public class PivotGauss extends Simplification {
      * @throws LigneIdentiqueException les indices sont les mêmes
      */
     public void soustraction(int Lk, int Li, double lambda) throws LignePresenteException, LigneIdentiqueException {
-        //récupération de la longueur d'une ligne
-        int n = system.getMatrix().columnCount();
-
         //récupération du nombre de ligne
         int N = system.getMatrix().rowCount();
 
@@ -145,21 +179,8 @@ public class PivotGauss extends Simplification {
         if(Li == Lk)
             throw new LigneIdentiqueException();
 
-        //Récupération de la matrice actuelle
-        Matrix2 tab = system.getMatrix();
-
-        double[] tabi = new double[n];
-        double[] tabk = new double[n];
-        //Multiplication si necessaire
-        for (int k = 0; k < n; k++){
-            tabi[k] = lambda * tab.get(Li, k);
-        }
-        for (int k = 0; k < n; k++){
-            tabk[k] = tab.get(Lk, k) - tabi[k];
-        }
-
-        system.setMatrixRow(tabk, Lk, false);
-
+        //Lk ← Lk - lambda × Li, directement dans la matrice
+        system.addScaledRow(Lk, Li, -lambda);
     }
 
     /**
@@ -170,24 +191,14 @@ public class PivotGauss extends Simplification {
      * @throws LigneIdentiqueException les indices sont les mêmes
      */
     public void multiplication(int Li, double lambda) throws LignePresenteException,LigneIdentiqueException{
-        //Taille de la ligne Li
-        int n = system.getMatrix().columnCount();
-
         //récupération du nombre de ligne
         int N = system.getMatrix().rowCount();
 
         if(Li >= N)
             throw new LignePresenteException(Li);
 
-        Matrix2 tab = system.getMatrix();
-
-        double[] tabi = new double[n];
-
-        for (int k = 0; k < n; k++){
-            tabi[k] = lambda * tab.get(Li, k);
-        }
-
-        system.setMatrixRow(tabi, Li, lambda < 0);
+        //Change aussi le sens de l'inégalité si lambda est négatif
+        system.scaleRow(Li, lambda);
     }
 
     @Override
@@ -0,0 +1,198 @@
+package model.simplification;
+
+import model.LCSystem;
+import model.Matrix;
+import model.Matrix2;
+import model.RowKernels;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Pivot de Gauss par blocs, pour les grands systèmes denses.
+ *
+ * @implNote Les pivots sont traités par panneaux de {@link #taillePanneau} colonnes :
+ *           <ol>
+ *               <li>le panneau (les colonnes des pivots) est éliminé sur toutes les lignes suivantes, en retenant les
+ *                   coefficients <code>lambda</code> utilisés ;</li>
+ *               <li>les lignes des pivots sont mises à jour hors du panneau ;</li>
+ *               <li>les lignes suivantes sont mises à jour hors du panneau, tuile de {@link #TAILLE_TUILE} colonnes par
+ *                   tuile, pour que les lignes des pivots restent dans le cache pendant qu'elles sont réutilisées.</li>
+ *           </ol>
+ *           Chaque case subit exactement les mêmes opérations, dans le même ordre, qu'avec {@link PivotGauss} :
+ *           le résultat est identique au bit près.
+ *
+ *           Seule une {@link Matrix2} est traitée par blocs. Pour les autres représentations, ainsi que pour les lignes
+ *           au-delà de la dernière variable, l'élimination se fait comme dans {@link PivotGauss}.
+ */
+public class PivotGaussBloc extends PivotGauss {
+    /**
+     * Le nombre de pivots traités ensemble par défaut.
+     */
+    private final static int TAILLE_PANNEAU = 64;
+    /**
+     * Le nombre de colonnes mises à jour d'un coup hors du panneau.
+     */
+    private final static int TAILLE_TUILE = 256;
+
+    /**
+     * Le nombre de pivots traités ensemble.
+     */
+    private final int taillePanneau;
+
+    public PivotGaussBloc(LCSystem sys){
+        this(sys, TAILLE_PANNEAU);
+    }
+
+    /**
+     * @param sys le système à simplifier
+     * @param taillePanneau le nombre de pivots traités ensemble
+     */
+    public PivotGaussBloc(LCSystem sys, int taillePanneau){
+        super(sys);
+
+        if(taillePanneau < 1)
+            throw new IllegalArgumentException("La taille d'un panneau doit être strictement positive");
+        this.taillePanneau = taillePanneau;
+    }
+
+    /**
+     * Application du pivot de gauss par blocs sur le système
+     */
+    @Override
+    public void run(){
+        //récupération de la longueur d'une ligne
+        int n = system.getMatrix().columnCount();
+        //récupération du nombre de lignes (contraintes)
+        int N = system.getMatrix().rowCount();
+
+        selectionPivot();
+
+        //Les pivots sur les variables sont éliminés par blocs, les lignes en trop comme dans PivotGauss
+        int limite = Math.max(0, Math.min(N, n - 2));
+        int debut = 0;
+        if(limite > 0 && system.getMatrix() instanceof Matrix2) {
+            eliminationParBlocs(limite);
+            debut = limite;
+        }
+
+        for(int i = debut; i < N; i++){
+            elimination(i);
+        }
+
+        BorneSupInf bn = new BorneSupInf(this.system);
+        bn.borneSupInf();
+    }
+
+    /**
+     * Élimine les pivots <code>0</code> à <code>limite - 1</code>, panneau par panneau.
+     *
+     * @param limite le nombre de pivots à éliminer (au plus <code>n - 2</code>)
+     */
+    private void eliminationParBlocs(int limite){
+        Matrix matrix = system.getMatrix();
+        int n = matrix.columnCount();
+        int N = matrix.rowCount();
+        int b = this.taillePanneau;
+
+        //Toutes les lignes d'une Matrix2 sont dans le même tableau
+        double[] data = matrix.rowView(0).array();
+        int[] debuts = new int[N];
+        for(int i = 0; i < N; i++){
+            DoubleBuffer ligne = matrix.rowView(i);
+            debuts[i] = ligne.arrayOffset() + ligne.position();
+        }
+
+        //lambdas[k * b + r] : le coefficient de la ligne k pour le r-ième pivot du panneau
+        double[] lambdas = new double[N * b];
+
+        for(int p = 0; p < limite; p += b){
+            int q = Math.min(p + b, limite);
+
+            //1. Élimination du panneau sur toutes les lignes suivantes
+            for(int i = p; i < q; i++){
+                for(int k = i + 1; k < N; k++){
+                    double lambda = data[debuts[k] + i] / data[debuts[i] + i];
+                    lambdas[k * b + i - p] = lambda;
+
+                    //Rien à éliminer sur cette ligne
+                    if(lambda == 0)
+                        continue;
+
+                    RowKernels.axpy(-lambda, data, debuts[i] + p, data, debuts[k] + p, q - p);
+                }
+            }
+
+            //2. Mise à jour des lignes des pivots hors du panneau
+            for(int i = p + 1; i < q; i++){
+                for(int r = p; r < i; r++){
+                    double lambda = lambdas[i * b + r - p];
+                    if(lambda == 0)
+                        continue;
+
+                    RowKernels.axpy(-lambda, data, debuts[r], data, debuts[i], p);
+                    RowKernels.axpy(-lambda, data, debuts[r] + q, data, debuts[i] + q, n - q);
+                }
+            }
+
+            //3. Mise à jour des lignes suivantes hors du panneau, tuile par tuile
+            miseAJour(data, debuts, lambdas, p, q, 0, p);
+            miseAJour(data, debuts, lambdas, p, q, q, n);
+        }
+    }
+
+    /**
+     * Applique les pivots <code>p</code> à <code>q - 1</code> aux lignes suivant le panneau, sur les colonnes
+     * <code>debut</code> à <code>fin - 1</code>.
+     *
+     * @implNote Pour chaque tuile, les lignes des pivots sont recopiées côte à côte dans un tableau à part, puis
+     *           appliquées quatre par quatre à chaque ligne : la ligne modifiée n'est lue et écrite qu'une fois pour
+     *           quatre pivots. Les additions restent faites une à une, dans l'ordre des pivots.
+     */
+    private void miseAJour(double[] data, int[] debuts, double[] lambdas, int p, int q, int debut, int fin){
+        int N = debuts.length;
+        int b = this.taillePanneau;
+        double[] panneau = new double[b * TAILLE_TUILE];
+        double[] coefficients = new double[b];
+        int[] pivots = new int[b];
+
+        for(int j = debut; j < fin; j += TAILLE_TUILE){
+            int largeur = Math.min(TAILLE_TUILE, fin - j);
+
+            for(int r = p; r < q; r++){
+                System.arraycopy(data, debuts[r] + j, panneau, (r - p) * TAILLE_TUILE, largeur);
+            }
+
+            for(int k = q; k < N; k++){
+                //Seuls les pivots avec un lambda non nul modifient la ligne
+                int nbPivots = 0;
+                for(int r = p; r < q; r++){
+                    double lambda = lambdas[k * b + r - p];
+                    if(lambda == 0)
+                        continue;
+
+                    coefficients[nbPivots] = -lambda;
+                    pivots[nbPivots] = (r - p) * TAILLE_TUILE;
+                    nbPivots++;
+                }
+
+                int y = debuts[k] + j;
+                int r = 0;
+                for(; r + 4 <= nbPivots; r += 4){
+                    RowKernels.axpy4(coefficients[r], coefficients[r + 1], coefficients[r + 2], coefficients[r + 3],
+                            panneau, pivots[r], pivots[r + 1], pivots[r + 2], pivots[r + 3],
+                            data, y, largeur);
+                }
+                for(; r < nbPivots; r++){
+                    RowKernels.axpy(coefficients[r], panneau, pivots[r], data, y, largeur);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "------ PivotGaussBloc ------" +
+                "\n" + system +
+                ' ';
+    }
+}
@@ -0,0 +1,111 @@
+package model.simplification;
+
+import model.LCSystem;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Pivot de Gauss dont les lignes suivant chaque pivot sont mises à jour en parallèle.
+ *
+ * @implNote Pour un pivot <code>i</code>, les mises à jour des lignes <code>k &gt; i</code> sont indépendantes
+ *           (voir {@link PivotGauss#eliminationLigne(int, int)}) : elles sont réparties par paquets d'au plus
+ *           {@link #grain} lignes sur un {@link ForkJoinPool}. Les pivots, eux, restent traités l'un après l'autre.
+ *
+ *           Chaque ligne subit les mêmes opérations qu'avec {@link PivotGauss} : le résultat est identique.
+ *           Quand il reste moins de {@link #seuilSequentiel} cases à mettre à jour, le pivot est traité sans
+ *           parallélisme, la répartition coûtant alors plus cher que le calcul.
+ */
+public class PivotGaussParallele extends PivotGauss {
+    /**
+     * Le nombre de cases à mettre à jour en dessous duquel un pivot est traité séquentiellement.
+     */
+    private final static long SEUIL_SEQUENTIEL = 1L << 15;
+    /**
+     * Le nombre de cases visé pour chaque tâche, utilisé pour calculer le grain par défaut.
+     */
+    private final static int CASES_PAR_TACHE = 1 << 13;
+
+    private final ForkJoinPool pool;
+    /**
+     * Le nombre maximum de lignes mises à jour par une même tâche.
+     */
+    private final int grain;
+    /**
+     * Le nombre de cases à mettre à jour en dessous duquel un pivot est traité séquentiellement.
+     */
+    private final long seuilSequentiel;
+
+    public PivotGaussParallele(LCSystem sys){
+        this(sys, ForkJoinPool.commonPool(), Math.max(1, CASES_PAR_TACHE / Math.max(1, sys.getMatrix().columnCount())), SEUIL_SEQUENTIEL);
+    }
+
+    /**
+     * @param sys le système à simplifier
+     * @param pool le pool sur lequel répartir les lignes
+     * @param grain le nombre maximum de lignes mises à jour par une même tâche
+     * @param seuilSequentiel le nombre de cases à mettre à jour en dessous duquel un pivot est traité séquentiellement
+     */
+    public PivotGaussParallele(LCSystem sys, ForkJoinPool pool, int grain, long seuilSequentiel){
+        super(sys);
+
+        if(grain < 1)
+            throw new IllegalArgumentException("Le grain doit être strictement positif");
+        this.pool = pool;
+        this.grain = grain;
+        this.seuilSequentiel = seuilSequentiel;
+    }
+
+    @Override
+    protected void elimination(int i){
+        //récupération de la longueur d'une ligne
+        int n = system.getMatrix().columnCount();
+        //récupération du nombre de lignes (contraintes)
+        int N = system.getMatrix().rowCount();
+
+        long cases = (long) (N - i - 1) * n;
+        if(cases < this.seuilSequentiel || this.pool.getParallelism() < 2) {
+            super.elimination(i);
+            return;
+        }
+
+        this.pool.invoke(new EliminationLignes(i, i + 1, N));
+        normalisation(i);
+    }
+
+    /**
+     * Met à jour les lignes <code>debut</code> à <code>fin - 1</code> avec le pivot <code>i</code>, en coupant
+     * l'intervalle en deux tant qu'il dépasse le grain.
+     */
+    private final class EliminationLignes extends RecursiveAction {
+        private final int i;
+        private final int debut;
+        private final int fin;
+
+        EliminationLignes(int i, int debut, int fin){
+            this.i = i;
+            this.debut = debut;
+            this.fin = fin;
+        }
+
+        @Override
+        protected void compute(){
+            if(fin - debut <= grain) {
+                for(int k = debut; k < fin; k++){
+                    eliminationLigne(i, k);
+                }
+                return;
+            }
+
+            int milieu = (debut + fin) >>> 1;
+            invokeAll(new EliminationLignes(i, debut, milieu), new EliminationLignes(i, milieu, fin));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "------ PivotGaussParallele ------" +
+                "\n" + system +
+                ' ';
+    }
+}
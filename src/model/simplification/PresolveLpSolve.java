@@ -0,0 +1,200 @@
+package model.simplification;
+
+import config.Config;
+import exceptions.problems.LigneInvalideException;
+import exceptions.problems.NonResoluException;
+import exceptions.problems.ProblemeSansVariablesException;
+import exceptions.problems.TailleLigneInvalideException;
+import exceptions.problems.TypeInegaliteInvalideException;
+import lpsolve.LpSolve;
+import lpsolve.LpSolveException;
+import model.LCSystem;
+import model.MLOProblem;
+import model.Matrix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static model.MLOProblem.*;
+
+/**
+ * Simplifie le système avec le présolve de lp_solve, au lieu de chercher les contraintes redondantes une par une.
+ *
+ * @implNote Le système est chargé dans lp_solve avec le présolve sur les lignes ({@link LpSolve#PRESOLVE_ROWS} : lignes
+ *           vides, lignes à une seule variable, lignes redondantes d'après les bornes) et sur les égalités dépendantes
+ *           ({@link LpSolve#PRESOLVE_LINDEP}), puis résolu sans fonction objectif. Le problème simplifié par lp_solve
+ *           remplace alors le système :
+ *           <ul>
+ *               <li>les contraintes gardées, dans le même ordre, telles que lp_solve les a laissées ;</li>
+ *               <li>une contrainte bornée des deux côtés devient deux contraintes ;</li>
+ *               <li>les bornes trouvées pour les variables (toutes libres au départ) deviennent des contraintes à
+ *                   une seule variable, à la fin du système.</li>
+ *           </ul>
+ *           Le présolve sur les colonnes, qui retire des variables (et des solutions), n'est pas utilisé : le système
+ *           garde ses variables.
+ *
+ *           Le problème est résolu sans tenir compte des types des variables : une contrainte redondante pour le
+ *           problème en nombres réels l'est aussi pour le problème en nombres entiers.
+ *
+ *           Si lp_solve ne va pas au bout (temps écoulé, délai dépassé ou erreur), le système n'est pas modifié et
+ *           toutes ses contraintes sont notées comme non vérifiées. Un système sans solution n'est pas modifié.
+ */
+public class PresolveLpSolve extends Simplification {
+    private final static int PRESOLVE = LpSolve.PRESOLVE_ROWS | LpSolve.PRESOLVE_LINDEP;
+
+    /**
+     * Initialise le présolve avec un système de contraintes linéaires.
+     *
+     * @param originalSystem le système de contraintes initial
+     * @implNote Attention : ce système sera modifié directement par l'algorithme.
+     */
+    public PresolveLpSolve(final LCSystem originalSystem) {
+        super(originalSystem);
+    }
+
+    /**
+     * Fais tourner le présolve de lp_solve sur le système donné au constructeur.
+     */
+    public void run() {
+        try {
+            this.presolve();
+        } catch (LpSolveException | LigneInvalideException | NonResoluException | TypeInegaliteInvalideException | TailleLigneInvalideException | ProblemeSansVariablesException e) {
+            e.printStackTrace();
+            this.toutesNonVerifiees();
+        }
+    }
+
+    /**
+     * Remplace le système par le problème simplifié par lp_solve.
+     *
+     * @implNote Le système n'est modifié qu'à la fin : en cas d'erreur de lp_solve, il reste tel quel.
+     */
+    public void presolve() throws LpSolveException, LigneInvalideException, NonResoluException, TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
+        final Matrix matrix = this.system.getMatrix();
+        final int N = matrix.rowCount();
+        final int nbVars = matrix.columnCount() - 1;
+
+        if (N == 0 || nbVars < 1)
+            return;
+
+        if (this.budget.isEpuise()) {
+            this.toutesNonVerifiees();
+            return;
+        }
+
+        // mêmes contraintes, variables réelles (la matrice est seulement lue)
+        final VarType[] reelles = new VarType[nbVars];
+        Arrays.fill(reelles, VarType.REAL);
+        final LCSystem relaxe = new LCSystem(matrix, this.system.getIneqTypes(), reelles);
+
+        try (MLOProblem pb = new MLOProblem(nbVars).withSystem(relaxe).withPresolve(PRESOLVE)) {
+            pb.withTimeout(this.budget.timeout(1));
+            pb.solve();
+
+            if (pb.isInfeasable()) {
+                if (Config.VERBOSE) System.err.println("Présolve : système sans solution, non modifié");
+                return;
+            }
+            if (pb.isTimedOut() || !(pb.isOptimal() || pb.isPresolved() || pb.isUnbounded()) || pb.getNbVars() != nbVars) {
+                if (Config.VERBOSE) System.err.println("Présolve : lp_solve n'est pas allé au bout, système non modifié");
+                this.toutesNonVerifiees();
+                return;
+            }
+
+            this.remplacer(pb);
+        }
+    }
+
+    /**
+     * Remplace les contraintes du système par celles du problème simplifié, suivies des bornes des variables.
+     */
+    private void remplacer(final MLOProblem pb) throws LpSolveException, LigneInvalideException {
+        final int nbVars = pb.getNbVars();
+        final List<double[]> lignes = new ArrayList<>();
+        final List<Integer> types = new ArrayList<>();
+
+        for (int r = 1; r <= pb.getNbConstraints(); ++r) {
+            // lp_solve ignore la case 0 : la partie droite y est mise
+            final double[] ligne = pb.getConstraint(r);
+            final double b = pb.getConstraintRHS(r);
+            final int ineqType = pb.getConstraintType(r - 1);
+            final double etendue = pb.getConstraintRange(r);
+
+            if (ineqType == EQ || pb.isInfinite(etendue)) {
+                lignes.add(this.ligne(ligne, b));
+                types.add(ineqType);
+            } else if (etendue == 0.) {
+                lignes.add(this.ligne(ligne, b));
+                types.add(EQ);
+            } else {
+                lignes.add(this.ligne(ligne, b));
+                types.add(ineqType);
+                lignes.add(this.ligne(ligne, ineqType == LE ? b - Math.abs(etendue) : b + Math.abs(etendue)));
+                types.add(ineqType == LE ? GE : LE);
+            }
+
+            if (Config.VERBOSE)
+                System.err.println("Présolve : contrainte " + (pb.getOriginalIndex(r) - 1) + " gardée");
+        }
+
+        final double[] unitaire = new double[nbVars + 1];
+        for (int j = 0; j < nbVars; ++j) {
+            final double inf = pb.getLowerBound(j);
+            final double sup = pb.getUpperBound(j);
+            if (pb.isInfinite(inf) && pb.isInfinite(sup))
+                continue;
+
+            Arrays.fill(unitaire, 0.);
+            unitaire[j + 1] = 1.;
+            if (!pb.isInfinite(inf) && !pb.isInfinite(sup) && inf == sup) {
+                lignes.add(this.ligne(unitaire, inf));
+                types.add(EQ);
+                continue;
+            }
+            if (!pb.isInfinite(inf)) {
+                lignes.add(this.ligne(unitaire, inf));
+                types.add(GE);
+            }
+            if (!pb.isInfinite(sup)) {
+                lignes.add(this.ligne(unitaire, sup));
+                types.add(LE);
+            }
+        }
+
+        final int N = lignes.size();
+        final int[] ineqTypes = new int[N];
+        for (int i = 0; i < N; ++i) {
+            ineqTypes[i] = types.get(i);
+        }
+
+        if (Config.VERBOSE)
+            System.err.println("Présolve : " + this.system.getMatrix().rowCount() + " contrainte(s) avant, " + N + " après");
+
+        this.system.replaceConstraints(lignes, ineqTypes);
+    }
+
+    /**
+     * Construit une ligne du système à partir d'une ligne lp_solve (coefficients à partir de la case <code>1</code>).
+     */
+    private double[] ligne(final double[] lpSolve, final double b) {
+        final double[] ligne = new double[lpSolve.length];
+        System.arraycopy(lpSolve, 1, ligne, 0, lpSolve.length - 1);
+        ligne[ligne.length - 1] = b;
+        return ligne;
+    }
+
+    private void toutesNonVerifiees() {
+        final BitSet nonVerifiees = new BitSet();
+        nonVerifiees.set(0, this.system.getMatrix().rowCount());
+        this.rapport.lignesNonVerifiees(nonVerifiees, new BitSet());
+    }
+
+    @Override
+    public String toString() {
+        return "------ PresolveLpSolve ------" +
+                "\n" + system +
+                ' ';
+    }
+}
@@ -0,0 +1,76 @@
+package model.simplification;
+
+import java.util.BitSet;
+
+/**
+ * Ce qu'une simplification n'a pas pu vérifier, faute de temps (voir {@link Simplification#run(Budget)}) ou à cause
+ * d'une erreur de lp_solve.
+ *
+ * @implNote Le système simplifié reste équivalent au système initial : une contrainte non vérifiée est gardée, une
+ *           variable non vérifiée n'est pas fixée. Les indices sont ceux du système simplifié, à la fin de la
+ *           simplification.
+ *
+ *           Les méthodes sont synchronisées, pour être appelées par des tâches parallèles.
+ */
+public final class Rapport {
+    private final BitSet lignes = new BitSet();
+    private final BitSet variables = new BitSet();
+
+    /**
+     * Note les contraintes gardées sans avoir été vérifiées par une recherche qui en a retiré d'autres.
+     *
+     * @param nonVerifiees les indices, au début de la recherche, des contraintes non vérifiées
+     * @param retirees les indices, au début de la recherche, des contraintes retirées
+     */
+    synchronized void lignesNonVerifiees(final BitSet nonVerifiees, final BitSet retirees) {
+        for (int i = nonVerifiees.nextSetBit(0); i >= 0; i = nonVerifiees.nextSetBit(i + 1)) {
+            this.lignes.set(i - retirees.get(0, i).cardinality());
+        }
+    }
+
+    synchronized void variableNonVerifiee(final int n) {
+        this.variables.set(n);
+    }
+
+    /**
+     * Ajoute un autre rapport, dont les indices sont décalés ou renumérotés.
+     *
+     * @param rapport le rapport à ajouter
+     * @param premiereLigne l'indice, dans ce rapport, de la ligne <code>0</code> de l'autre rapport
+     * @param variables les indices, dans ce rapport, des variables de l'autre rapport
+     */
+    synchronized void ajouter(final Rapport rapport, final int premiereLigne, final int[] variables) {
+        for (final int i : rapport.getLignesNonVerifiees())
+            this.lignes.set(premiereLigne + i);
+        for (final int n : rapport.getVariablesNonVerifiees())
+            this.variables.set(variables[n]);
+    }
+
+    /**
+     * Retourne les indices, dans le système simplifié, des contraintes dont la redondance n'a pas été vérifiée.
+     */
+    public synchronized int[] getLignesNonVerifiees() {
+        return this.lignes.stream().toArray();
+    }
+
+    /**
+     * Retourne les indices des variables dont on ne sait pas si elles sont fixes.
+     */
+    public synchronized int[] getVariablesNonVerifiees() {
+        return this.variables.stream().toArray();
+    }
+
+    /**
+     * Vérifie si toutes les contraintes et toutes les variables ont été vérifiées : le système est alors autant
+     * simplifié que sans limite de temps.
+     */
+    public synchronized boolean isComplet() {
+        return this.lignes.isEmpty() && this.variables.isEmpty();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return this.isComplet() ? "Simplification complète" :
+                "Simplification partielle : contraintes non vérifiées " + this.lignes + ", variables non vérifiées " + this.variables;
+    }
+}
@@ -2,15 +2,70 @@ package model.simplification;
 
 import model.LCSystem;
 
+import java.time.Duration;
+
 public abstract class Simplification {
     protected LCSystem system;
 
+    /**
+     * Le temps accordé aux appels à lp_solve (voir {@link #run(Budget)}).
+     */
+    protected Budget budget = Budget.illimite();
+    /**
+     * Ce que la simplification n'a pas pu vérifier pendant la dernière exécution.
+     */
+    protected Rapport rapport = new Rapport();
+
     public Simplification(final LCSystem s) {
         this.system = s;
     }
 
     public abstract void run();
 
+    /**
+     * Fais tourner la simplification en temps limité.
+     *
+     * @implNote Quand le temps est écoulé, plus aucun appel à lp_solve n'est fait : ce qui reste à vérifier est gardé
+     *           tel quel. Le système obtenu est partiellement simplifié, mais reste équivalent au système initial.
+     *
+     * @param budget le temps accordé
+     * @return ce qui n'a pas pu être vérifié
+     */
+    public Rapport run(final Budget budget) {
+        this.budget = budget;
+        this.rapport = new Rapport();
+        this.run();
+
+        return this.rapport;
+    }
+
+    /**
+     * Fais tourner la simplification en temps limité, à partir de maintenant.
+     *
+     * @see #run(Budget)
+     */
+    public Rapport run(final Duration duree) {
+        return this.run(Budget.de(duree));
+    }
+
+    /**
+     * Fait partager le budget et le rapport de cette simplification à une autre, lancée par celle-ci sur le même système.
+     *
+     * @return l'autre simplification
+     */
+    <S extends Simplification> S partager(final S etape) {
+        etape.budget = this.budget;
+        etape.rapport = this.rapport;
+        return etape;
+    }
+
+    /**
+     * Retourne ce que la simplification n'a pas pu vérifier pendant la dernière exécution.
+     */
+    public Rapport getRapport() {
+        return this.rapport;
+    }
+
     /**
      * Retourne le système de contraintes linéaires utilisé par les algorithmes de Daalmans.
      *
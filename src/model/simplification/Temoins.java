@@ -0,0 +1,174 @@
+package model.simplification;
+
+import model.LCSystem;
+import model.Matrix;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+import static model.MLOProblem.*;
+
+/**
+ * Garde les solutions trouvées par lp_solve, pour éviter des résolutions dans {@link Daalmans}.
+ *
+ * @implNote Une solution du système lui-même (et non d'une copie modifiée) reste une solution après chacune des
+ *           simplifications de {@link Daalmans}, qui ne retirent jamais de solution au système. Deux telles solutions
+ *           dont la coordonnée <code>n</code> diffère prouvent que la variable <code>n</code> n'est pas fixe : seuls le
+ *           minimum et le maximum de chaque coordonnée sont gardés pour cela.
+ *
+ *           Un point qui vérifie toutes les contraintes sauf <code>c</code>, et qui vérifie <code>not c</code>, prouve
+ *           que <code>c</code> n'est pas redondante. N'importe quel point peut servir, puisqu'il est vérifié sur le
+ *           système courant : les {@link #CAPACITE} derniers points trouvés sont gardés.
+ *
+ *           Les méthodes sont synchronisées, pour être appelées par les tâches de {@link Daalmans#withParallelism}.
+ */
+public class Temoins {
+    private final static double DELTA = 0.00000001;
+    /**
+     * Le nombre de points gardés par défaut.
+     */
+    private final static int CAPACITE = 32;
+
+    /**
+     * Les derniers points trouvés, utilisés comme un tampon circulaire.
+     */
+    private final double[][] points;
+    private int prochain = 0;
+    private int taille = 0;
+
+    /**
+     * Le minimum et le maximum de chaque coordonnée sur les solutions du système.
+     */
+    private final double[] min;
+    private final double[] max;
+
+    private int nbAppelsEvites = 0;
+
+    public Temoins(final int nbVars) {
+        this(nbVars, CAPACITE);
+    }
+
+    /**
+     * @param nbVars le nombre de variables du système
+     * @param capacite le nombre de points gardés
+     */
+    public Temoins(final int nbVars, final int capacite) {
+        if (capacite < 1)
+            throw new IllegalArgumentException("La capacité doit être strictement positive");
+
+        this.points = new double[capacite][];
+        this.min = new double[nbVars];
+        this.max = new double[nbVars];
+        Arrays.fill(this.min, Double.POSITIVE_INFINITY);
+        Arrays.fill(this.max, Double.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Ajoute un point trouvé par lp_solve.
+     *
+     * @param point les valeurs des variables
+     * @param solution <code>true</code> si le point est une solution du système lui-même
+     */
+    public synchronized void ajouter(final double[] point, final boolean solution) {
+        for (final double value : point) {
+            if (!Double.isFinite(value))
+                return;
+        }
+
+        if (solution) {
+            for (int n = 0; n < point.length; ++n) {
+                this.min[n] = Math.min(this.min[n], point[n]);
+                this.max[n] = Math.max(this.max[n], point[n]);
+            }
+        }
+
+        this.points[this.prochain] = point;
+        this.prochain = (this.prochain + 1) % this.points.length;
+        this.taille = Math.min(this.taille + 1, this.points.length);
+    }
+
+    /**
+     * Vérifie si les solutions connues prouvent que la variable <code>n</code> n'est pas fixe.
+     *
+     * @implNote Si c'est le cas, les deux appels à lp_solve pour cette variable sont comptés comme évités.
+     */
+    public synchronized boolean nonFixe(final int n) {
+        if (this.max[n] - this.min[n] < DELTA)
+            return false;
+
+        this.nbAppelsEvites += 2;
+        return true;
+    }
+
+    /**
+     * Vérifie si un des points connus prouve que la contrainte <code>i</code> n'est pas redondante dans le système :
+     * il vérifie toutes les autres contraintes, et viole <code>c</code> d'au moins <code>epsilon</code>.
+     *
+     * @implNote Si c'est le cas, l'appel à lp_solve pour cette contrainte est compté comme évité.
+     */
+    public synchronized boolean nonRedondante(final LCSystem system, final int i, final double epsilon) {
+        if (this.taille == 0)
+            return false;
+
+        final Matrix matrix = system.getMatrix();
+        final int b = matrix.columnCount() - 1;
+        final DoubleBuffer ligne = matrix.rowView(i);
+        final int ineqType = system.getIneqType(i);
+
+        for (int p = 0; p < this.taille; ++p) {
+            final double[] point = this.points[p];
+
+            final double ecart = activite(ligne, point) - ligne.get(b);
+            final boolean viole;
+            switch (ineqType) {
+                case LE: viole = ecart >= epsilon; break;
+                case GE: viole = ecart <= -epsilon; break;
+                case EQ: viole = Math.abs(ecart) >= epsilon; break;
+                default: viole = false;
+            }
+            if (!viole)
+                continue;
+
+            boolean autres = true;
+            for (int k = 0; k < matrix.rowCount() && autres; ++k) {
+                if (k != i)
+                    autres = verifie(matrix.rowView(k), system.getIneqType(k), point);
+            }
+
+            if (autres) {
+                this.nbAppelsEvites++;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Retourne le nombre d'appels à lp_solve évités grâce aux points connus.
+     */
+    public synchronized int getNbAppelsEvites() {
+        return this.nbAppelsEvites;
+    }
+
+    private static double activite(final DoubleBuffer ligne, final double[] point) {
+        double activite = 0.;
+        for (int j = 0; j < point.length; ++j) {
+            activite += ligne.get(j) * point[j];
+        }
+        return activite;
+    }
+
+    private static boolean verifie(final DoubleBuffer ligne, final int ineqType, final double[] point) {
+        final double rhs = ligne.get(point.length);
+        final double ecart = activite(ligne, point) - rhs;
+        final double tolerance = DELTA * Math.max(1., Math.abs(rhs));
+
+        switch (ineqType) {
+            case LE: return ecart <= tolerance;
+            case GE: return ecart >= -tolerance;
+            case EQ: return Math.abs(ecart) <= tolerance;
+            default: return true;
+        }
+    }
+}
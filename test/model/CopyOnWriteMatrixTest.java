@@ -0,0 +1,59 @@
+package model;
+
+import model.simplification.PivotGauss;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static model.MLOProblem.*;
+
+public class CopyOnWriteMatrixTest {
+    private static final double DELTA = 0.00000001;
+
+    @Test
+    public void test1() {
+        // les copies partagent leurs lignes, mais une modification ne doit jamais être visible par les autres copies
+        final CopyOnWriteMatrix matrix = new CopyOnWriteMatrix(2, 3);
+        matrix.setDouble(0, 0, 1.);
+        matrix.setDouble(1, 2, 2.);
+
+        final CopyOnWriteMatrix clone = matrix.clone();
+        final CopyOnWriteMatrix cloneOfClone = clone.clone();
+
+        matrix.setDouble(0, 0, 10.);
+        clone.setDouble(1, 2, 20.);
+        cloneOfClone.removeRow(0);
+        cloneOfClone.appendRow(new double[]{3., 3., 3.});
+
+        Assertions.assertEquals(10., matrix.getDouble(0, 0), DELTA);
+        Assertions.assertEquals(2., matrix.getDouble(1, 2), DELTA);
+        Assertions.assertEquals(1., clone.getDouble(0, 0), DELTA);
+        Assertions.assertEquals(20., clone.getDouble(1, 2), DELTA);
+        Assertions.assertEquals(2., cloneOfClone.getDouble(0, 2), DELTA);
+        Assertions.assertEquals(3., cloneOfClone.getDouble(1, 0), DELTA);
+        Assertions.assertEquals(2, matrix.rowCount());
+    }
+
+    @Test
+    public void test2() {
+        final Matrix2 dense = new Matrix2(3, 3);
+        dense.setRow(0, new double[]{1., 2., 4.});
+        dense.setRow(1, new double[]{3., -1., 5.});
+        dense.setRow(2, new double[]{1., 0., 1.});
+        final int[] ineqTypes = {EQ, LE, GE};
+        final VarType[] varTypes = {VarType.REAL, VarType.REAL};
+
+        final LCSystem original = new LCSystem(dense, ineqTypes, varTypes);
+        original.enableCopyOnWrite();
+        final LCSystem shared = original.clone();
+
+        final LCSystem expected = new LCSystem(dense.clone(), ineqTypes.clone(), varTypes.clone());
+        new PivotGauss(expected).run();
+        new PivotGauss(shared).run();
+
+        // la copie a été simplifiée comme un système dense, et l'original n'a pas bougé
+        Assertions.assertEquals(expected.toString(), shared.toString());
+        Assertions.assertEquals(Arrays.toString(new Double[]{1., 2., 4.}), Arrays.toString(original.getMatrix().row(0)));
+    }
+}
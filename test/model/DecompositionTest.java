@@ -0,0 +1,70 @@
+package model;
+
+import model.simplification.LignesParalleles;
+import model.simplification.ParBlocs;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static model.MLOProblem.*;
+
+public class DecompositionTest {
+    private static LCSystem system() {
+        // x + z ⩽ 4 ; y ⩾ 1 ; 0 ⩽ 3 ; 2x + 2z ⩽ 6 ; y + w = 2 ; 2y ⩾ 4
+        final Matrix2 matrix = new Matrix2(6, 5);
+        matrix.setRow(0, new double[]{1., 0., 1., 0., 4.});
+        matrix.setRow(1, new double[]{0., 1., 0., 0., 1.});
+        matrix.setRow(2, new double[]{0., 0., 0., 0., 3.});
+        matrix.setRow(3, new double[]{2., 0., 2., 0., 6.});
+        matrix.setRow(4, new double[]{0., 1., 0., 1., 2.});
+        matrix.setRow(5, new double[]{0., 2., 0., 0., 4.});
+        return new LCSystem(matrix, new int[]{LE, GE, LE, LE, EQ, GE},
+                new VarType[]{VarType.REAL, VarType.INT, VarType.REAL, VarType.REAL});
+    }
+
+    @Test
+    public void test1() {
+        final LCSystem system = system();
+        final Decomposition decomposition = system.decompose();
+
+        // {x, z} (avec la contrainte constante) et {y, w}
+        Assertions.assertEquals(2, decomposition.size());
+        Assertions.assertEquals(Arrays.toString(new int[]{0, 2}), Arrays.toString(decomposition.getVariables(0)));
+        Assertions.assertEquals(Arrays.toString(new int[]{1, 3}), Arrays.toString(decomposition.getVariables(1)));
+
+        final LCSystem bloc = decomposition.getBloc(1);
+        Assertions.assertEquals(3, bloc.getMatrix().rowCount());
+        Assertions.assertEquals(3, bloc.getMatrix().columnCount());
+        Assertions.assertEquals(Arrays.toString(new Double[]{1., 1., 2.}), Arrays.toString(bloc.getMatrix().row(1)));
+        Assertions.assertEquals(Arrays.toString(new int[]{GE, EQ, GE}), Arrays.toString(bloc.getIneqTypes()));
+        Assertions.assertEquals(Arrays.toString(new VarType[]{VarType.INT, VarType.REAL}), Arrays.toString(bloc.getVarTypes()));
+
+        // sans simplification, seules les contraintes sont réordonnées par bloc
+        decomposition.recompose();
+        Assertions.assertEquals(Arrays.toString(new int[]{LE, LE, LE, GE, EQ, GE}), Arrays.toString(system.getIneqTypes()));
+        Assertions.assertEquals(Arrays.toString(new Double[]{0., 0., 0., 0., 3.}), Arrays.toString(system.getMatrix().row(1)));
+        Assertions.assertEquals(Arrays.toString(new Double[]{0., 1., 0., 1., 2.}), Arrays.toString(system.getMatrix().row(4)));
+    }
+
+    @Test
+    public void test2() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            final LCSystem expected = system();
+            new LignesParalleles(expected).run();
+
+            final LCSystem actual = system();
+            new ParBlocs(actual, pool, List.of(LignesParalleles::new)).run();
+
+            Assertions.assertEquals(expected.getMatrix().rowCount(), actual.getMatrix().rowCount());
+            Assertions.assertEquals(Arrays.toString(new int[]{LE, LE, EQ, GE}), Arrays.toString(actual.getIneqTypes()));
+            Assertions.assertEquals(Arrays.toString(new Double[]{2., 0., 2., 0., 6.}), Arrays.toString(actual.getMatrix().row(1)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
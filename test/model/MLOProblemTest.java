@@ -10,6 +10,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import random.SystemGenerator;
 
+import java.util.Arrays;
+
 import static model.MLOProblem.*;
 
 public class MLOProblemTest {
@@ -159,4 +161,53 @@ public class MLOProblemTest {
         Assertions.assertEquals(9, solution, DELTA);
 
     }
+
+    @Test
+    public void test6() throws LpSolveException, TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
+        // les contraintes de test1, chargées en une seule fois
+        final Matrix2 matrix = new Matrix2(6, 3);
+        matrix.setRow(0, new double[]{4., -1., 4.});
+        matrix.setRow(1, new double[]{1., -1., 4.});
+        matrix.setRow(2, new double[]{1., 1., 10.});
+        matrix.setRow(3, new double[]{1., 1., 5.});
+        matrix.setRow(4, new double[]{1., 0., 2.});
+        matrix.setRow(5, new double[]{0., 1., 2.});
+        final LCSystem system = new LCSystem(matrix, new int[]{GE, LE, LE, GE, GE, GE}, new VarType[]{VarType.REAL, VarType.REAL});
+
+        try (MLOProblem pb = new MLOProblem(2).withSystem(system).withObjective("2 -6")) {
+            Assertions.assertEquals(6, pb.getNbConstraints());
+            Assertions.assertEquals(-37.6, pb.solve(), DELTA);
+        }
+    }
+
+    @Test
+    public void test7() throws LpSolveException, TypeInegaliteInvalideException, ProblemeSansVariablesException {
+        try (MLOProblem pb = new MLOProblem(3)
+                .withObjective("1 0 -2")
+                .withConstraint("1 0 0", LE, "4")
+                .withConstraint("0 0 1", GE, "-1")
+                .withConstraint("1 1 0", EQ, "0")
+                .max()) {
+            final double solution = pb.solve();
+
+            // la matrice est lue colonne par colonne, quelle que soit sa représentation
+            final LCSystem dense = new LCSystem(pb, solution, LCSystem.Storage.DENSE);
+            final LCSystem sparse = new LCSystem(pb, solution, LCSystem.Storage.SPARSE);
+            Assertions.assertTrue(sparse.getMatrix() instanceof SparseMatrix);
+
+            // la représentation n'est choisie d'après la densité que sur demande
+            Assertions.assertTrue(new LCSystem(pb, solution).getMatrix() instanceof Matrix2);
+            Assertions.assertTrue(new LCSystem(pb, solution, LCSystem.Storage.AUTO).getMatrix() instanceof Matrix2);
+
+            Assertions.assertEquals(6., solution, DELTA);
+            final double[][] expected = {{1., 0., -2., 6.}, {1., 0., 0., 4.}, {0., 0., 1., -1.}, {1., 1., 0., 0.}};
+            for (int i = 0; i < expected.length; ++i) {
+                for (int j = 0; j < expected[i].length; ++j) {
+                    Assertions.assertEquals(expected[i][j], dense.getMatrix().getDouble(i, j), DELTA);
+                    Assertions.assertEquals(expected[i][j], sparse.getMatrix().getDouble(i, j), DELTA);
+                }
+            }
+            Assertions.assertEquals(Arrays.toString(new int[]{EQ, LE, GE, EQ}), Arrays.toString(sparse.getIneqTypes()));
+        }
+    }
 }
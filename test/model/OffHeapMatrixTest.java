@@ -0,0 +1,64 @@
+package model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.DoubleBuffer;
+
+public class OffHeapMatrixTest {
+    private static final double DELTA = 0.00000001;
+
+    @Test
+    public void test1() {
+        try (OffHeapMatrix matrix = new OffHeapMatrix(2, 3)) {
+            matrix.setDouble(0, 1, 2.);
+            matrix.setRow(1, new double[]{1., 0., 5.});
+            for (int i = 0; i < 10; ++i) {
+                matrix.appendRow(new double[]{i, i, i});
+            }
+            matrix.removeRow(0);
+            matrix.markRemoved(1);
+            matrix.compact();
+
+            Assertions.assertEquals(10, matrix.rowCount());
+            Assertions.assertEquals(5., matrix.getDouble(0, 2), DELTA);
+            Assertions.assertEquals(1., matrix.getDouble(1, 1), DELTA);
+            Assertions.assertEquals(9., matrix.getDouble(9, 0), DELTA);
+
+            // la vue sur une ligne écrit directement dans la matrice
+            final DoubleBuffer view = matrix.rowView(0);
+            view.put(1, 7.);
+            Assertions.assertEquals(7., matrix.getDouble(0, 1), DELTA);
+
+            try (OffHeapMatrix clone = matrix.clone()) {
+                clone.setDouble(0, 0, 42.);
+                Assertions.assertEquals(1., matrix.getDouble(0, 0), DELTA);
+            }
+        }
+    }
+
+    @Test
+    public void test2() {
+        // les lignes marquées restent marquées quand la matrice grandit
+        try (OffHeapMatrix matrix = new OffHeapMatrix(2, 2)) {
+            matrix.markRemoved(0);
+            for (int i = 0; i < 10; ++i) {
+                matrix.appendRow(new double[]{i, i});
+            }
+            matrix.markRemoved(11);
+            matrix.removeRow(1);
+
+            Assertions.assertTrue(matrix.isRemoved(0));
+            Assertions.assertTrue(matrix.isRemoved(10));
+            Assertions.assertFalse(matrix.isRemoved(9));
+
+            try (OffHeapMatrix clone = matrix.clone()) {
+                clone.appendRow(new double[]{1., 1.});
+                clone.markRemoved(11);
+                clone.compact();
+                Assertions.assertEquals(9, clone.rowCount());
+                Assertions.assertEquals(0., clone.getDouble(0, 0), DELTA);
+            }
+        }
+    }
+}
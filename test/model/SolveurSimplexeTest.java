@@ -0,0 +1,83 @@
+package model;
+
+import lpsolve.LpSolve;
+import lpsolve.LpSolveException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static model.MLOProblem.*;
+
+public class SolveurSimplexeTest {
+    private static final double DELTA = 0.00000001;
+
+    @Test
+    public void test1() throws LpSolveException {
+        // variables libres : min x + y sous x ⩾ -3, y ⩾ -2, x - y ⩽ 10
+        final SolveurSimplexe solveur = new SolveurSimplexe(2);
+        solveur.ajouterLigne(new double[]{0., 1., 0.}, GE, -3.);
+        solveur.ajouterLigne(new double[]{0., 0., 1.}, GE, -2.);
+        solveur.ajouterLigne(new double[]{0., 1., -1.}, LE, 10.);
+        solveur.setObjectif(new double[]{0., 1., 1.});
+
+        Assertions.assertEquals(LpSolve.OPTIMAL, solveur.resoudre());
+        Assertions.assertEquals(-5., solveur.getValeurObjectif(), DELTA);
+
+        final double[] x = new double[2];
+        solveur.getVariables(x);
+        Assertions.assertEquals(-3., x[0], DELTA);
+        Assertions.assertEquals(-2., x[1], DELTA);
+
+        // sans borne sur x, qui peut diminuer avec y
+        solveur.retirerLigne(1);
+        Assertions.assertEquals(LpSolve.UNBOUNDED, solveur.resoudre());
+    }
+
+    @Test
+    public void test2() throws LpSolveException {
+        // égalités dépendantes : x + y = 2 ; 2x + 2y = 4 ; x - y = 0, max x
+        final SolveurSimplexe solveur = new SolveurSimplexe(2);
+        solveur.ajouterLigne(new double[]{0., 1., 1.}, EQ, 2.);
+        solveur.ajouterLigne(new double[]{0., 2., 2.}, EQ, 4.);
+        solveur.ajouterLigne(new double[]{0., 1., -1.}, EQ, 0.);
+        solveur.setObjectif(new double[]{0., 1., 0.});
+        solveur.setMax(true);
+
+        Assertions.assertEquals(LpSolve.OPTIMAL, solveur.resoudre());
+        Assertions.assertEquals(1., solveur.getValeurObjectif(), DELTA);
+
+        // x + y = 2 ; x - y ⩽ 1 : x ⩽ 1.5
+        solveur.setType(3, LE);
+        solveur.setPartieDroite(3, 1.);
+        Assertions.assertEquals(LpSolve.OPTIMAL, solveur.resoudre());
+        Assertions.assertEquals(1.5, solveur.getValeurObjectif(), DELTA);
+
+        // x + y ⩽ 0 ; x - y ⩽ 1 : x ⩽ 0.5
+        solveur.setType(1, LE);
+        solveur.setPartieDroite(1, 0.);
+        solveur.retirerLigne(2);
+        Assertions.assertEquals(LpSolve.OPTIMAL, solveur.resoudre());
+        Assertions.assertEquals(0.5, solveur.getValeurObjectif(), DELTA);
+
+        // et x + y ⩾ 1
+        solveur.ajouterLigne(new double[]{0., 1., 1.}, GE, 1.);
+        Assertions.assertEquals(LpSolve.INFEASIBLE, solveur.resoudre());
+    }
+
+    @Test
+    public void test3() throws LpSolveException {
+        // un problème dégénéré (plusieurs contraintes actives au même sommet)
+        final SolveurSimplexe solveur = new SolveurSimplexe(2);
+        solveur.ajouterLigne(new double[]{0., 1., 0.}, LE, 1.);
+        solveur.ajouterLigne(new double[]{0., 0., 1.}, LE, 1.);
+        solveur.ajouterLigne(new double[]{0., 1., 1.}, LE, 2.);
+        solveur.ajouterLigne(new double[]{0., 1., -1.}, LE, 0.);
+        solveur.ajouterLigne(new double[]{0., -1., 1.}, LE, 0.);
+        solveur.setObjectif(new double[]{0., -1., -1.});
+
+        // un délai trop grand pour être compté en nanosecondes n'arrête pas la résolution
+        solveur.setTimeout(Long.MAX_VALUE);
+
+        Assertions.assertEquals(LpSolve.OPTIMAL, solveur.resoudre());
+        Assertions.assertEquals(-2., solveur.getValeurObjectif(), DELTA);
+    }
+}
@@ -0,0 +1,79 @@
+package model;
+
+import model.simplification.PivotGauss;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import random.SystemAssertions;
+import random.SystemGenerator;
+
+import java.util.Random;
+
+public class SparseMatrixTest {
+    private static final double DELTA = 0.00000001;
+
+    @Test
+    public void test1() {
+        final SparseMatrix matrix = new SparseMatrix(3, 4);
+        matrix.setDouble(1, 2, 5.);
+        matrix.setDouble(1, 0, 3.);
+        matrix.setDouble(2, 3, 1.);
+        matrix.setDouble(1, 2, 0.);
+
+        Assertions.assertEquals(2, matrix.nonZeroCount());
+        Assertions.assertEquals(3., matrix.getDouble(1, 0), DELTA);
+        Assertions.assertEquals(0., matrix.getDouble(1, 2), DELTA);
+
+        final int[] rows = new int[3];
+        final double[] values = new double[3];
+        Assertions.assertEquals(1, matrix.columnNonZeros(3, rows, values));
+        Assertions.assertEquals(2, rows[0]);
+
+        matrix.removeRow(0);
+        matrix.appendRow(new double[]{0., 0., 7., 0.});
+        Assertions.assertEquals(3, matrix.rowCount());
+        Assertions.assertEquals(7., matrix.clone().getDouble(2, 2), DELTA);
+    }
+
+    @Test
+    public void test2() {
+        // le pivot de Gauss doit donner le même résultat sur une matrice dense et sur une matrice creuse
+        final Random random = new Random(42);
+
+        for (int t = 0; t < 100; ++t) {
+            final int nbRows = 1 + random.nextInt(8);
+            final int nbColumns = 2 + random.nextInt(6);
+
+            final LCSystem denseSystem = SystemGenerator.system(random, nbRows, nbColumns, 0.5);
+            final LCSystem sparseSystem = new LCSystem(new SparseMatrix(denseSystem.getMatrix()), denseSystem.getIneqTypes(), denseSystem.getVarTypes().clone());
+
+            new PivotGauss(denseSystem).run();
+            new PivotGauss(sparseSystem).run();
+
+            SystemAssertions.assertSameSystem(denseSystem, sparseSystem, DELTA);
+        }
+    }
+
+    @Test
+    public void test3() {
+        // les coefficients d'une ligne sont séparés de sa partie droite, quelle que soit la représentation
+        final Matrix2 dense = new Matrix2(2, 4);
+        dense.setRow(0, new double[]{0., 2., 3., 5.});
+        dense.setRow(1, new double[]{1., 0., 0., 0.});
+
+        for (final Matrix matrix : new Matrix[]{dense, new SparseMatrix(dense)}) {
+            final int[] cols = new int[4];
+            final double[] values = new double[4];
+            Assertions.assertEquals(2, matrix.lhsNonZeros(0, cols, values));
+            Assertions.assertEquals(2, cols[1]);
+            Assertions.assertEquals(5., matrix.rhs(0), DELTA);
+            Assertions.assertEquals(1, matrix.lhsNonZeros(1, cols, values));
+            Assertions.assertEquals(0., matrix.rhs(1), DELTA);
+
+            // une nouvelle matrice vide garde la représentation
+            final Matrix vide = matrix.newMatrix(3, 4);
+            Assertions.assertEquals(matrix.getClass(), vide.getClass());
+            Assertions.assertEquals(3, vide.rowCount());
+            Assertions.assertEquals(0., vide.getDouble(2, 3), DELTA);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package model.simplification;
+
+import model.LCSystem;
+import model.Matrix2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static model.MLOProblem.*;
+
+public class BornesActiviteTest {
+    @Test
+    public void test1() {
+        // x ⩽ 2 ; x + y ⩽ 10 ; y ⩽ 3 : x ⩽ 2 et y ⩽ 3 suffisent à borner x + y par 5
+        final Matrix2 matrix = new Matrix2(3, 3);
+        matrix.setRow(0, new double[]{1., 0., 2.});
+        matrix.setRow(1, new double[]{1., 1., 10.});
+        matrix.setRow(2, new double[]{0., 1., 3.});
+        final LCSystem system = new LCSystem(matrix, new int[]{LE, LE, LE}, new VarType[]{VarType.REAL, VarType.REAL});
+
+        final BornesActivite bornes = new BornesActivite(system);
+        Assertions.assertEquals(1, bornes.retirerRedondances());
+
+        Assertions.assertEquals(2, system.getMatrix().rowCount());
+        Assertions.assertEquals(Arrays.toString(new Double[]{1., 0., 2.}), Arrays.toString(system.getMatrix().row(0)));
+        Assertions.assertEquals(Arrays.toString(new Double[]{0., 1., 3.}), Arrays.toString(system.getMatrix().row(1)));
+        Assertions.assertEquals(2., bornes.getBorneSup(0), 1e-6);
+        Assertions.assertEquals(3., bornes.getBorneSup(1), 1e-6);
+    }
+
+    @Test
+    public void test2() {
+        // x ⩽ 2 ; x ⩽ 2 : une seule des deux peut être retirée, et une contrainte seule n'est jamais retirée
+        final Matrix2 matrix = new Matrix2(2, 2);
+        matrix.setRow(0, new double[]{1., 2.});
+        matrix.setRow(1, new double[]{1., 2.});
+        final LCSystem system = new LCSystem(matrix, new int[]{LE, LE}, new VarType[]{VarType.REAL});
+
+        Assertions.assertEquals(1, new BornesActivite(system).retirerRedondances());
+        Assertions.assertEquals(1, system.getMatrix().rowCount());
+
+        Assertions.assertEquals(0, new BornesActivite(system).retirerRedondances());
+        Assertions.assertEquals(1, system.getMatrix().rowCount());
+    }
+
+    @Test
+    public void test3() {
+        // x ⩾ 0 ; y ⩾ 0 ; x + y ⩾ -1 ; x - y = 1 ; x + 2y ⩽ 4
+        // x - y = 1 et y ⩾ 0 donnent x ⩾ 1 : x + y ⩾ -1 et x ⩾ 0 sont redondantes
+        final Matrix2 matrix = new Matrix2(5, 3);
+        matrix.setRow(0, new double[]{1., 0., 0.});
+        matrix.setRow(1, new double[]{0., 1., 0.});
+        matrix.setRow(2, new double[]{1., 1., -1.});
+        matrix.setRow(3, new double[]{1., -1., 1.});
+        matrix.setRow(4, new double[]{1., 2., 4.});
+        final LCSystem system = new LCSystem(matrix, new int[]{GE, GE, GE, EQ, LE}, new VarType[]{VarType.REAL, VarType.REAL});
+
+        Assertions.assertEquals(2, new BornesActivite(system).retirerRedondances());
+        Assertions.assertEquals(Arrays.toString(new int[]{GE, EQ, LE}), Arrays.toString(system.getIneqTypes()));
+        Assertions.assertEquals(Arrays.toString(new Double[]{0., 1., 0.}), Arrays.toString(system.getMatrix().row(0)));
+    }
+
+    @Test
+    public void test4() {
+        // x ⩾ 1 ; x ⩽ -1 : aucune solution, rien n'est retiré
+        final Matrix2 matrix = new Matrix2(2, 2);
+        matrix.setRow(0, new double[]{1., 1.});
+        matrix.setRow(1, new double[]{1., -1.});
+        final LCSystem system = new LCSystem(matrix, new int[]{GE, LE}, new VarType[]{VarType.REAL});
+
+        Assertions.assertEquals(0, new BornesActivite(system).retirerRedondances());
+        Assertions.assertEquals(2, system.getMatrix().rowCount());
+    }
+}
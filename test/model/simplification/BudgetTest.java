@@ -0,0 +1,72 @@
+package model.simplification;
+
+import model.LCSystem;
+import model.Matrix2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static model.MLOProblem.*;
+
+public class BudgetTest {
+    @Test
+    public void test1() {
+        Assertions.assertFalse(Budget.illimite().isEpuise());
+        Assertions.assertEquals(TIMEOUT, Budget.illimite().timeout(1000));
+
+        Assertions.assertTrue(Budget.de(Duration.ZERO).isEpuise());
+        Assertions.assertFalse(Budget.de(Duration.ofDays(365_000_000)).isEpuise());
+
+        // 100 s pour 30 résolutions : 4 s chacune (arrondi à la seconde supérieure), jamais moins d'une seconde
+        final Budget budget = Budget.de(Duration.ofSeconds(100));
+        Assertions.assertEquals(4, budget.timeout(30));
+        Assertions.assertEquals(1, budget.timeout(1000));
+    }
+
+    @Test
+    public void test2() {
+        // contraintes 2 et 5 non vérifiées, 0 et 3 retirées : elles deviennent 1 et 3
+        final BitSet nonVerifiees = new BitSet();
+        nonVerifiees.set(2);
+        nonVerifiees.set(5);
+        final BitSet retirees = new BitSet();
+        retirees.set(0);
+        retirees.set(3);
+
+        final Rapport bloc = new Rapport();
+        bloc.lignesNonVerifiees(nonVerifiees, retirees);
+        bloc.variableNonVerifiee(1);
+        Assertions.assertEquals(Arrays.toString(new int[]{1, 3}), Arrays.toString(bloc.getLignesNonVerifiees()));
+
+        final Rapport rapport = new Rapport();
+        Assertions.assertTrue(rapport.isComplet());
+
+        rapport.ajouter(bloc, 10, new int[]{4, 7});
+        Assertions.assertFalse(rapport.isComplet());
+        Assertions.assertEquals(Arrays.toString(new int[]{11, 13}), Arrays.toString(rapport.getLignesNonVerifiees()));
+        Assertions.assertEquals(Arrays.toString(new int[]{7}), Arrays.toString(rapport.getVariablesNonVerifiees()));
+    }
+
+    @Test
+    public void test3() {
+        // sans temps, seules les simplifications sans lp_solve sont faites : tout le reste est gardé et rapporté
+        final Matrix2 matrix = new Matrix2(3, 3);
+        matrix.setRow(0, new double[]{1., 1., 4.});
+        matrix.setRow(1, new double[]{2., 2., 6.});
+        matrix.setRow(2, new double[]{1., -1., 1.});
+        final LCSystem system = new LCSystem(matrix, new int[]{LE, LE, LE}, new VarType[]{VarType.REAL, VarType.REAL});
+
+        final Rapport rapport = new Daalmans(system).run(Duration.ZERO);
+
+        Assertions.assertEquals(2, system.getMatrix().rowCount());
+        Assertions.assertEquals(Arrays.toString(new Double[]{2., 2., 6.}), Arrays.toString(system.getMatrix().row(0)));
+        Assertions.assertEquals(Arrays.toString(new Double[]{1., -1., 1.}), Arrays.toString(system.getMatrix().row(1)));
+
+        Assertions.assertFalse(rapport.isComplet());
+        Assertions.assertEquals(Arrays.toString(new int[]{0, 1}), Arrays.toString(rapport.getLignesNonVerifiees()));
+        Assertions.assertEquals(Arrays.toString(new int[]{0, 1}), Arrays.toString(rapport.getVariablesNonVerifiees()));
+    }
+}
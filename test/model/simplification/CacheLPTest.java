@@ -0,0 +1,75 @@
+package model.simplification;
+
+import model.LCSystem;
+import model.Matrix2;
+import model.SparseMatrix;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static model.MLOProblem.*;
+
+public class CacheLPTest {
+    private static LCSystem system() {
+        // x + y ⩽ 4 ; x ⩽ 3 ; y ⩾ -1 ; x + y ⩽ 6
+        final Matrix2 matrix = new Matrix2(4, 3);
+        matrix.setRow(0, new double[]{1., 1., 4.});
+        matrix.setRow(1, new double[]{1., 0., 3.});
+        matrix.setRow(2, new double[]{0., 1., -1.});
+        matrix.setRow(3, new double[]{1., 1., 6.});
+        return new LCSystem(matrix, new int[]{LE, LE, GE, LE}, new VarType[]{VarType.REAL, VarType.REAL});
+    }
+
+    @Test
+    public void test1() {
+        final LCSystem system = system();
+        final LCSystem sparse = new LCSystem(new SparseMatrix(system.getMatrix()), system.getIneqTypes(), system.getVarTypes());
+
+        // la clé ne dépend pas de la représentation de la matrice, ni du signe de 0
+        Assertions.assertEquals(CacheLP.cle(system, true, new double[]{1., 0.}), CacheLP.cle(sparse, true, new double[]{1., -0.}));
+        Assertions.assertNotEquals(CacheLP.cle(system, true, new double[]{1., 0.}), CacheLP.cle(system, false, new double[]{1., 0.}));
+
+        sparse.setIneqTypes(3, GE);
+        Assertions.assertNotEquals(CacheLP.cle(system, true, new double[]{1., 0.}), CacheLP.cle(sparse, true, new double[]{1., 0.}));
+    }
+
+    @Test
+    public void test2() {
+        final LCSystem system = system();
+        final CacheLP.Cle a = CacheLP.cle(system, true, new double[]{1., 0.});
+        final CacheLP.Cle b = CacheLP.cle(system, true, new double[]{0., 1.});
+        final CacheLP.Cle c = CacheLP.cle(system, false, new double[]{1., 0.});
+
+        // le résultat utilisé le moins récemment est oublié
+        final CacheLP cache = new CacheLP(2);
+        cache.put(a, new CacheLP.Resultat(3., false, true, null));
+        cache.put(b, new CacheLP.Resultat(4., false, true, null));
+        Assertions.assertEquals(3., cache.get(a).valeur);
+        cache.put(c, new CacheLP.Resultat(0., true, true, null));
+
+        Assertions.assertNull(cache.get(b));
+        Assertions.assertNotNull(cache.get(a));
+        Assertions.assertNotNull(cache.get(c));
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(3, cache.getNbSucces());
+        Assertions.assertEquals(1, cache.getNbDefauts());
+    }
+
+    @Test
+    public void test3() {
+        // deux simplifications du même système : la seconde ne résout aucun problème
+        final CacheLP cache = new CacheLP();
+        final LCSystem premier = system();
+        final LCSystem second = system();
+
+        new Daalmans(premier).withCache(cache).run();
+        final long nbDefauts = cache.getNbDefauts();
+        Assertions.assertTrue(nbDefauts > 0);
+
+        new Daalmans(second).withCache(cache).run();
+        Assertions.assertEquals(nbDefauts, cache.getNbDefauts());
+        Assertions.assertEquals(nbDefauts, cache.getNbSucces());
+
+        Assertions.assertEquals(premier.getMatrix().rowCount(), second.getMatrix().rowCount());
+        Assertions.assertEquals(3, second.getMatrix().rowCount());
+    }
+}
@@ -0,0 +1,47 @@
+package model.simplification;
+
+import model.LCSystem;
+import model.Matrix2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static model.MLOProblem.*;
+
+public class ClarksonTest {
+    @Test
+    public void test1() {
+        // x ⩽ 2 ; x ⩽ 3 ; x ⩾ 0 ; y ⩽ 1 ; y ⩾ 0 ; x + y ⩽ 10 : x ⩽ 3 et x + y ⩽ 10 sont redondantes
+        final Matrix2 matrix = new Matrix2(6, 3);
+        matrix.setRow(0, new double[]{1., 0., 2.});
+        matrix.setRow(1, new double[]{1., 0., 3.});
+        matrix.setRow(2, new double[]{1., 0., 0.});
+        matrix.setRow(3, new double[]{0., 1., 1.});
+        matrix.setRow(4, new double[]{0., 1., 0.});
+        matrix.setRow(5, new double[]{1., 1., 10.});
+        final LCSystem system = new LCSystem(matrix, new int[]{LE, LE, GE, LE, GE, LE}, new VarType[]{VarType.REAL, VarType.REAL});
+
+        new Clarkson(system).run();
+
+        Assertions.assertEquals(4, system.getMatrix().rowCount());
+        Assertions.assertEquals(Arrays.toString(new int[]{LE, GE, LE, GE}), Arrays.toString(system.getIneqTypes()));
+        Assertions.assertEquals(Arrays.toString(new Double[]{1., 0., 2.}), Arrays.toString(system.getMatrix().row(0)));
+        Assertions.assertEquals(Arrays.toString(new Double[]{0., 1., 1.}), Arrays.toString(system.getMatrix().row(2)));
+    }
+
+    @Test
+    public void test2() {
+        // x = 1 ; x + y ⩽ 4 ; y ⩽ 2 ; y ⩾ 0 : avec x = 1, x + y vaut au plus 3
+        final Matrix2 matrix = new Matrix2(4, 3);
+        matrix.setRow(0, new double[]{1., 0., 1.});
+        matrix.setRow(1, new double[]{1., 1., 4.});
+        matrix.setRow(2, new double[]{0., 1., 2.});
+        matrix.setRow(3, new double[]{0., 1., 0.});
+        final LCSystem system = new LCSystem(matrix, new int[]{EQ, LE, LE, GE}, new VarType[]{VarType.REAL, VarType.REAL});
+
+        new Clarkson(system).run();
+
+        Assertions.assertEquals(Arrays.toString(new int[]{EQ, LE, GE}), Arrays.toString(system.getIneqTypes()));
+    }
+}
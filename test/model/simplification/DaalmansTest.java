@@ -0,0 +1,77 @@
+package model.simplification;
+
+import exceptions.problems.ProblemeSansVariablesException;
+import exceptions.problems.TailleLigneInvalideException;
+import exceptions.problems.TypeInegaliteInvalideException;
+import model.LCSystem;
+import model.Matrix2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static model.MLOProblem.*;
+
+public class DaalmansTest {
+    @Test
+    public void test1() {
+        // x + y = 2 ; x - y = 0 ; 2x = 2 (somme des deux premières) ; x + y ⩽ 5 ; 3x + y = 4 (x + y = 2 plus 2x = 2)
+        final Matrix2 matrix = new Matrix2(5, 3);
+        matrix.setRow(0, new double[]{1., 1., 2.});
+        matrix.setRow(1, new double[]{1., -1., 0.});
+        matrix.setRow(2, new double[]{2., 0., 2.});
+        matrix.setRow(3, new double[]{1., 1., 5.});
+        matrix.setRow(4, new double[]{3., 1., 4.});
+        final LCSystem system = new LCSystem(matrix, new int[]{EQ, EQ, EQ, LE, EQ}, new VarType[]{VarType.REAL, VarType.REAL});
+
+        new Daalmans(system).removeDependentEqualities();
+
+        // seules les deux premières égalités, indépendantes, sont gardées (l'inégalité n'est pas concernée)
+        Assertions.assertEquals(3, system.getMatrix().rowCount());
+        Assertions.assertEquals(Arrays.toString(new int[]{EQ, EQ, LE}), Arrays.toString(system.getIneqTypes()));
+        Assertions.assertEquals(Arrays.toString(new Double[]{1., 1., 5.}), Arrays.toString(system.getMatrix().row(2)));
+    }
+
+    @Test
+    public void test2() {
+        // x + y = 2 ; 2x + 2y = 3 : la seconde égalité contredit la première, elle doit être gardée
+        final Matrix2 matrix = new Matrix2(2, 3);
+        matrix.setRow(0, new double[]{1., 1., 2.});
+        matrix.setRow(1, new double[]{2., 2., 3.});
+        final LCSystem system = new LCSystem(matrix, new int[]{EQ, EQ}, new VarType[]{VarType.REAL, VarType.REAL});
+
+        new Daalmans(system).removeDependentEqualities();
+
+        Assertions.assertEquals(2, system.getMatrix().rowCount());
+    }
+
+    @Test
+    public void test3() {
+        // 3 contraintes, 2 variables : base {c1, x2} puis c3 et x1 hors base (c3 à sa borne inférieure)
+        final int[] base = new int[]{0, 1, 5, -3, 4};
+
+        // c1 passe à la fin : c2 et c3 remontent d'un cran, les variables ne changent pas
+        final int[] deplacee = Daalmans.deplacerLigne(base, 3, 0, 2);
+        Assertions.assertEquals(Arrays.toString(new int[]{0, 3, 5, -2, 4}), Arrays.toString(deplacee));
+
+        // et revient à sa place
+        Assertions.assertEquals(Arrays.toString(base), Arrays.toString(Daalmans.deplacerLigne(deplacee, 3, 2, 0)));
+    }
+
+    @Test
+    public void test4() throws TypeInegaliteInvalideException, TailleLigneInvalideException, ProblemeSansVariablesException {
+        // x ⩽ 3 ; x ⩽ 5 (redondante) ; x ⩾ -1
+        final Matrix2 matrix = new Matrix2(3, 2);
+        matrix.setRow(0, new double[]{1., 3.});
+        matrix.setRow(1, new double[]{1., 5.});
+        matrix.setRow(2, new double[]{1., -1.});
+        final LCSystem system = new LCSystem(matrix, new int[]{LE, LE, GE}, new VarType[]{VarType.REAL});
+
+        new Daalmans(system).removeRedundantConstraints();
+
+        // la matrice garde sa représentation après la recherche, faite sur des copies partagées
+        Assertions.assertEquals(2, system.getMatrix().rowCount());
+        Assertions.assertTrue(system.getMatrix() instanceof Matrix2);
+        Assertions.assertEquals(Arrays.toString(new int[]{LE, GE}), Arrays.toString(system.getIneqTypes()));
+    }
+}
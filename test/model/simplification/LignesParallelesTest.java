@@ -0,0 +1,61 @@
+package model.simplification;
+
+import model.LCSystem;
+import model.Matrix2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static model.MLOProblem.*;
+
+public class LignesParallelesTest {
+    @Test
+    public void test1() {
+        // x + y ⩽ 4 ; 2x + 2y ⩽ 6 ; -x - y ⩾ -5 ; x - y ⩽ 1 : seule 2x + 2y ⩽ 6 (x + y ⩽ 3) est gardée parmi les trois premières
+        final Matrix2 matrix = new Matrix2(4, 3);
+        matrix.setRow(0, new double[]{1., 1., 4.});
+        matrix.setRow(1, new double[]{2., 2., 6.});
+        matrix.setRow(2, new double[]{-1., -1., -5.});
+        matrix.setRow(3, new double[]{1., -1., 1.});
+        final LCSystem system = new LCSystem(matrix, new int[]{LE, LE, GE, LE}, new VarType[]{VarType.REAL, VarType.REAL});
+
+        Assertions.assertEquals(2, new LignesParalleles(system).retirerLignesParalleles());
+
+        Assertions.assertEquals(2, system.getMatrix().rowCount());
+        Assertions.assertEquals(Arrays.toString(new Double[]{2., 2., 6.}), Arrays.toString(system.getMatrix().row(0)));
+        Assertions.assertEquals(Arrays.toString(new Double[]{1., -1., 1.}), Arrays.toString(system.getMatrix().row(1)));
+    }
+
+    @Test
+    public void test2() {
+        // x + 2y ⩽ 2 ; -2x - 4y ⩽ -4 (x + 2y ⩾ 2) ; 3x + 6y ⩾ 1 : x + 2y = 2
+        final Matrix2 matrix = new Matrix2(3, 3);
+        matrix.setRow(0, new double[]{1., 2., 2.});
+        matrix.setRow(1, new double[]{-2., -4., -4.});
+        matrix.setRow(2, new double[]{3., 6., 1.});
+        final LCSystem system = new LCSystem(matrix, new int[]{LE, LE, GE}, new VarType[]{VarType.REAL, VarType.REAL});
+
+        Assertions.assertEquals(2, new LignesParalleles(system).retirerLignesParalleles());
+
+        Assertions.assertEquals(1, system.getMatrix().rowCount());
+        Assertions.assertEquals(Arrays.toString(new int[]{EQ}), Arrays.toString(system.getIneqTypes()));
+        Assertions.assertEquals(Arrays.toString(new Double[]{1., 2., 2.}), Arrays.toString(system.getMatrix().row(0)));
+    }
+
+    @Test
+    public void test3() {
+        // x = 1 ; 2x = 2 ; x ⩽ 5 : l'égalité suffit ; x ⩽ 0 et x ⩾ 1 : contradictoires, gardées
+        final Matrix2 matrix = new Matrix2(5, 3);
+        matrix.setRow(0, new double[]{1., 0., 1.});
+        matrix.setRow(1, new double[]{2., 0., 2.});
+        matrix.setRow(2, new double[]{1., 0., 5.});
+        matrix.setRow(3, new double[]{0., 1., 0.});
+        matrix.setRow(4, new double[]{0., 1., 1.});
+        final LCSystem system = new LCSystem(matrix, new int[]{EQ, EQ, LE, LE, GE}, new VarType[]{VarType.REAL, VarType.REAL});
+
+        Assertions.assertEquals(3, new LignesParalleles(system).retirerLignesParalleles());
+
+        Assertions.assertEquals(Arrays.toString(new int[]{EQ, LE, GE}), Arrays.toString(system.getIneqTypes()));
+    }
+}
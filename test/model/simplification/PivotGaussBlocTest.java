@@ -0,0 +1,30 @@
+package model.simplification;
+
+import model.LCSystem;
+import org.junit.jupiter.api.Test;
+import random.SystemAssertions;
+import random.SystemGenerator;
+
+import java.util.Random;
+
+public class PivotGaussBlocTest {
+    @Test
+    public void test1() {
+        // le pivot par blocs doit donner exactement le même résultat que le pivot ligne par ligne
+        final Random random = new Random(42);
+
+        for (int t = 0; t < 200; ++t) {
+            final int nbRows = 1 + random.nextInt(40);
+            final int nbColumns = 2 + random.nextInt(40);
+            final int taillePanneau = 1 + random.nextInt(8);
+
+            final LCSystem expected = SystemGenerator.system(random, nbRows, nbColumns, 0.7);
+            final LCSystem actual = expected.clone();
+
+            new PivotGauss(expected).run();
+            new PivotGaussBloc(actual, taillePanneau).run();
+
+            SystemAssertions.assertSameSystem(expected, actual, 0.);
+        }
+    }
+}
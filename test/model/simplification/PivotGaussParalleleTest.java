@@ -0,0 +1,39 @@
+package model.simplification;
+
+import model.LCSystem;
+import model.SparseMatrix;
+import org.junit.jupiter.api.Test;
+import random.SystemAssertions;
+import random.SystemGenerator;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class PivotGaussParalleleTest {
+    @Test
+    public void test1() {
+        // la répartition des lignes entre plusieurs threads ne doit pas changer le résultat
+        final Random random = new Random(42);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (int t = 0; t < 200; ++t) {
+                final int nbRows = 1 + random.nextInt(40);
+                final int nbColumns = 2 + random.nextInt(40);
+                final int grain = 1 + random.nextInt(4);
+
+                final LCSystem expected = SystemGenerator.system(random, nbRows, nbColumns, 0.7);
+                final LCSystem actual = t % 2 == 0
+                        ? expected.clone()
+                        : new LCSystem(new SparseMatrix(expected.getMatrix()), expected.getIneqTypes(), expected.getVarTypes().clone());
+
+                new PivotGauss(expected).run();
+                new PivotGaussParallele(actual, pool, grain, 0).run();
+
+                SystemAssertions.assertSameSystem(expected, actual, 0.);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
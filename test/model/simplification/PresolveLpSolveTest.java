@@ -0,0 +1,67 @@
+package model.simplification;
+
+import model.LCSystem;
+import model.Matrix;
+import model.Matrix2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static model.MLOProblem.*;
+
+public class PresolveLpSolveTest {
+    private final static double DELTA = 0.00000001;
+
+    private static LCSystem system() {
+        // x + y ⩽ 4 ; x ⩽ 3 ; x ⩽ 5 ; y ⩾ -1 ; x - y = 0
+        final Matrix2 matrix = new Matrix2(5, 3);
+        matrix.setRow(0, new double[]{1., 1., 4.});
+        matrix.setRow(1, new double[]{1., 0., 3.});
+        matrix.setRow(2, new double[]{1., 0., 5.});
+        matrix.setRow(3, new double[]{0., 1., -1.});
+        matrix.setRow(4, new double[]{1., -1., 0.});
+        return new LCSystem(matrix, new int[]{LE, LE, LE, GE, EQ}, new VarType[]{VarType.REAL, VarType.REAL});
+    }
+
+    private static boolean verifie(final LCSystem system, final double x, final double y) {
+        final Matrix matrix = system.getMatrix();
+        for (int i = 0; i < matrix.rowCount(); ++i) {
+            final double ax = matrix.getDouble(i, 0) * x + matrix.getDouble(i, 1) * y;
+            final double b = matrix.getDouble(i, 2);
+            final int ineqType = system.getIneqType(i);
+
+            if (ineqType == LE && ax > b + DELTA || ineqType == GE && ax < b - DELTA || ineqType == EQ && Math.abs(ax - b) > DELTA)
+                return false;
+        }
+        return true;
+    }
+
+    @Test
+    public void test1() {
+        final LCSystem initial = system();
+        final LCSystem system = system();
+
+        final Rapport rapport = new PresolveLpSolve(system).run(Budget.illimite());
+        Assertions.assertTrue(rapport.isComplet());
+        Assertions.assertTrue(system.getMatrix().rowCount() < initial.getMatrix().rowCount());
+
+        // le système simplifié a les mêmes solutions
+        for (double x = -3.; x <= 6.; x += 0.5) {
+            for (double y = -3.; y <= 6.; y += 0.5) {
+                Assertions.assertEquals(verifie(initial, x, y), verifie(system, x, y));
+            }
+        }
+    }
+
+    @Test
+    public void test2() {
+        // sans temps, le système n'est pas modifié et toutes ses contraintes sont rapportées
+        final LCSystem system = system();
+
+        final Rapport rapport = new PresolveLpSolve(system).run(Duration.ZERO);
+        Assertions.assertEquals(5, system.getMatrix().rowCount());
+        Assertions.assertEquals(Arrays.toString(new int[]{0, 1, 2, 3, 4}), Arrays.toString(rapport.getLignesNonVerifiees()));
+    }
+}
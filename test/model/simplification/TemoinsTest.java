@@ -0,0 +1,47 @@
+package model.simplification;
+
+import model.LCSystem;
+import model.Matrix2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static model.MLOProblem.*;
+
+public class TemoinsTest {
+    @Test
+    public void test1() {
+        // seules les solutions du système servent à prouver qu'une variable n'est pas fixe
+        final Temoins temoins = new Temoins(2);
+        temoins.ajouter(new double[]{1., 2.}, true);
+        temoins.ajouter(new double[]{1., 5.}, false);
+        Assertions.assertFalse(temoins.nonFixe(0));
+        Assertions.assertFalse(temoins.nonFixe(1));
+
+        temoins.ajouter(new double[]{1., 3.}, true);
+        Assertions.assertFalse(temoins.nonFixe(0));
+        Assertions.assertTrue(temoins.nonFixe(1));
+        Assertions.assertEquals(2, temoins.getNbAppelsEvites());
+    }
+
+    @Test
+    public void test2() {
+        // x + y ⩽ 4 ; x ⩽ 3 ; y ⩽ 3
+        final Matrix2 matrix = new Matrix2(3, 3);
+        matrix.setRow(0, new double[]{1., 1., 4.});
+        matrix.setRow(1, new double[]{1., 0., 3.});
+        matrix.setRow(2, new double[]{0., 1., 3.});
+        final LCSystem system = new LCSystem(matrix, new int[]{LE, LE, LE}, new VarType[]{VarType.REAL, VarType.REAL});
+
+        // (2.5, 2.5) ne viole que x + y ⩽ 4 : cette contrainte n'est pas redondante
+        final Temoins temoins = new Temoins(2, 2);
+        temoins.ajouter(new double[]{2.5, 2.5}, false);
+        Assertions.assertTrue(temoins.nonRedondante(system, 0, 0.0001));
+        Assertions.assertFalse(temoins.nonRedondante(system, 1, 0.0001));
+
+        // (4, 4) viole toutes les contraintes : il ne prouve rien
+        temoins.ajouter(new double[]{4., 4.}, false);
+        temoins.ajouter(new double[]{4., 4.}, false);
+        Assertions.assertFalse(temoins.nonRedondante(system, 0, 0.0001));
+        Assertions.assertEquals(1, temoins.getNbAppelsEvites());
+    }
+}
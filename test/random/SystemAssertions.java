@@ -0,0 +1,29 @@
+package random;
+
+import model.LCSystem;
+import model.Matrix;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.Arrays;
+
+public class SystemAssertions {
+    /**
+     * Vérifie que deux systèmes ont les mêmes contraintes, dans le même ordre
+     * @param expected le système attendu
+     * @param actual le système obtenu
+     * @param delta l'écart toléré sur chaque coefficient (les coefficients NaN attendus ne sont pas comparés)
+     */
+    public static void assertSameSystem(LCSystem expected, LCSystem actual, double delta) {
+        final Matrix m1 = expected.getMatrix();
+        final Matrix m2 = actual.getMatrix();
+        Assertions.assertEquals(m1.rowCount(), m2.rowCount());
+        Assertions.assertEquals(Arrays.toString(expected.getIneqTypes()), Arrays.toString(actual.getIneqTypes()));
+        for (int i = 0; i < m1.rowCount(); ++i) {
+            for (int j = 0; j < m1.columnCount(); ++j) {
+                final double value = m1.getDouble(i, j);
+                if (!Double.isNaN(value))
+                    Assertions.assertEquals(value, m2.getDouble(i, j), delta);
+            }
+        }
+    }
+}
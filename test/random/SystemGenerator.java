@@ -5,8 +5,11 @@ import exceptions.problems.ProblemeSansVariablesException;
 import exceptions.problems.TailleLigneInvalideException;
 import exceptions.problems.TypeInegaliteInvalideException;
 import lpsolve.LpSolveException;
+import model.LCSystem;
 import model.MLOProblem;
+import model.Matrix2;
 
+import java.util.Arrays;
 import java.util.Random;
 
 import static model.MLOProblem.*;
@@ -54,6 +57,32 @@ public class SystemGenerator {
         }
     }
 
+    /**
+     * Génère un système de contraintes à coefficients entiers, sans passer par lp_solve.
+     * @param random le générateur utilisé, pour obtenir toujours les mêmes systèmes à partir d'une même graine
+     * @param nbRows le nombre de contraintes
+     * @param nbColumns le nombre de colonnes de la matrice, partie droite comprise
+     * @param densite la proportion de coefficients non nuls
+     * @return un système dense, à variables réelles
+     */
+    public static LCSystem system(Random random, int nbRows, int nbColumns, double densite) {
+        final Matrix2 matrix = new Matrix2(nbRows, nbColumns);
+        final int[] ineqTypes = new int[nbRows];
+        final int[] tab = new int[]{LE, GE, EQ};
+
+        for (int i = 0; i < nbRows; i++){
+            ineqTypes[i] = tab[random.nextInt(tab.length)];
+            for (int j = 0; j < nbColumns; j++){
+                if (random.nextDouble() < densite)
+                    matrix.setDouble(i, j, Math.round(random.nextGaussian() * 4));
+            }
+        }
+
+        final VarType[] varTypes = new VarType[nbColumns - 1];
+        Arrays.fill(varTypes, VarType.REAL);
+        return new LCSystem(matrix, ineqTypes, varTypes);
+    }
+
     /**
      * Génère les contraintes aléatoirement
      * @throws LpSolveException lpSolve a échoué
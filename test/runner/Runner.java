@@ -1,7 +1,8 @@
 package runner;
 
 import model.LCSystem;
-import model.Matrix2;
+import model.Matrix;
+import model.simplification.CacheLP;
 import model.simplification.Daalmans;
 import model.simplification.PivotGauss;
 import model.simplification.Simplification;
@@ -22,6 +23,11 @@ public class Runner {
 
     private final Class<Simplification>[] algorithms;
     private final List<List<Class<Simplification>>> permutations;
+    /**
+     * Les résultats lp_solve partagés par toutes les combinaisons : elles partent toutes du même système, et
+     * résolvent donc souvent les mêmes problèmes (voir {@link Daalmans#withCache(CacheLP)}).
+     */
+    private final CacheLP cache = new CacheLP();
 
     public Runner() {
         //noinspection unchecked
@@ -47,7 +53,18 @@ public class Runner {
      * @return une liste de résultat d'exécution pour chaque méthode
      */
     public Stream<RunStatus> run(final LCSystem system) {
-        return this.forEach(l -> this.runOn(l, system.clone()));
+        // toutes les combinaisons partent de copies du même système : elles partagent les lignes non modifiées
+        final LCSystem shared = system.clone();
+        shared.enableCopyOnWrite();
+
+        return this.forEach(l -> this.runOn(l, shared.clone()));
+    }
+
+    /**
+     * Retourne le cache partagé par toutes les combinaisons, avec le nombre de problèmes trouvés et non trouvés.
+     */
+    public CacheLP getCache() {
+        return this.cache;
     }
 
     /**
@@ -118,7 +135,10 @@ public class Runner {
     private RunStatus runOn(final List<Class<Simplification>> simpls, final LCSystem system) {
         List<Simplification> simplifications = simpls.stream().map(c -> {
                     try {
-                        return c.getConstructor(LCSystem.class).newInstance(system);
+                        final Simplification simplification = c.getConstructor(LCSystem.class).newInstance(system);
+                        if (simplification instanceof Daalmans)
+                            ((Daalmans) simplification).withCache(this.cache);
+                        return simplification;
                     } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
                         return null;
                     }
@@ -133,7 +153,7 @@ public class Runner {
         final int initRowCount = system.getMatrix().rowCount();
         final int initColumnCount = system.getMatrix().columnCount() - 1;
         {
-            final Matrix2 matrix = system.getMatrix();
+            final Matrix matrix = system.getMatrix();
             for (int i = 0; i < initRowCount; ++i) {
                 for (int j = 0; j < initColumnCount; ++j) {
                     if (Math.abs(matrix.get(i, j)) <= DELTA)
@@ -152,7 +172,7 @@ public class Runner {
         final int finalRowCount = system.getMatrix().rowCount();
         final int finalColumnCount = system.getMatrix().columnCount() - 1;
         {
-            final Matrix2 matrix = system.getMatrix();
+            final Matrix matrix = system.getMatrix();
             for (int i = 0; i < initRowCount; ++i) {
                 if (i >= finalRowCount) {
                     nb0Out += initColumnCount;
@@ -2,7 +2,7 @@ package runner;
 
 import model.LCSystem;
 import model.MLOProblem;
-import model.Matrix2;
+import model.Matrix;
 
 import java.util.Comparator;
 
@@ -31,8 +31,8 @@ public class SystemComparator implements Comparator<LCSystem> {
         int nbZeroInO1 = 0;
         int nbZeroInO2 = 0;
 
-        final Matrix2 m1 = o1.getMatrix();
-        final Matrix2 m2 = o2.getMatrix();
+        final Matrix m1 = o1.getMatrix();
+        final Matrix m2 = o2.getMatrix();
 
         // NOTE: on ignore la dernière colonne puisqu'il s'agit du vecteur `b`
         for (int j = 0; j < m1.columnCount() - 1; ++j) {